@@ -0,0 +1,98 @@
+package com.aesopwow.subsubclipclop.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 JWT 인증 비용 비교 (./gradlew jmh, 결과는 build/results/jmh/results.txt)
+// legacy      : 변경 전 - 요청마다 파서를 새로 만들고 블랙리스트/만료/이메일 확인에 서명 검증 3회
+// singleParse : 단일 파싱 적용 후 - 검증 캐시를 끈 JwtTokenProvider.getValidClaims (서명 검증 1회) + 인증 주체 생성
+// cachedClaims: 검증 캐시 적용 후 - 같은 경로에서 캐시 적중 (토큰 해시 계산만 하고 서명 검증/파싱 생략)
+// Redis 블랙리스트 조회는 항상 없음을 반환하는 스텁으로 대체해서 순수 CPU 비용만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-for-hs256-signature-0123456789";
+
+    private SecretKey secretKey;
+    private RedisTemplate<String, String> redisTemplate;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedJwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        redisTemplate = new RedisTemplate<>() {
+            @Override
+            public Boolean hasKey(String key) {
+                return false;
+            }
+
+            @Override
+            public Long countExistingKeys(Collection<String> keys) {
+                return 0L;
+            }
+        };
+        jwtTokenProvider = provider(new VerifiedTokenCache());
+        uncachedJwtTokenProvider = provider(new VerifiedTokenCache(0));
+        token = jwtTokenProvider.createAccessToken("user@example.com", "CLIENT_USER", 1L, 1L, 1L,
+                JwtTokenProvider.newFamily());
+    }
+
+    @Benchmark
+    public Object legacy() {
+        // validateToken -> isBlacklisted -> getJti -> getClaims
+        Claims jtiClaims = parse();
+        if (Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + jtiClaims.getId()))) {
+            return null;
+        }
+        // validateToken -> getClaims (만료 확인)
+        if (parse().getExpiration().before(new Date())) {
+            return null;
+        }
+        // getEmail -> getClaims
+        return parse().get("email").toString();
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        Claims claims = uncachedJwtTokenProvider.getValidClaims(token);
+        return claims != null ? uncachedJwtTokenProvider.getUserDetails(claims) : null;
+    }
+
+    @Benchmark
+    public Object cachedClaims() {
+        Claims claims = jwtTokenProvider.getValidClaims(token);
+        return claims != null ? jwtTokenProvider.getUserDetails(claims) : null;
+    }
+
+    private JwtTokenProvider provider(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtTokenProvider(SECRET, redisTemplate,
+                new TokenBlacklist(redisTemplate, verifiedTokenCache), verifiedTokenCache);
+    }
+
+    private Claims parse() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
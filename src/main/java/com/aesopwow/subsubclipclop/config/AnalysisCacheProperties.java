@@ -0,0 +1,42 @@
+package com.aesopwow.subsubclipclop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analysis.cache")
+public class AnalysisCacheProperties {
+    // 로컬(JVM) 캐시 전체 용량 상한
+    private DataSize localMaxSize = DataSize.ofMegabytes(256);
+
+    // 이보다 큰 결과는 캐시하지 않음
+    private DataSize maxEntrySize = DataSize.ofMegabytes(32);
+
+    // 파싱된 CSV(컬럼형) 로컬 캐시 전체 용량 상한
+    private DataSize columnarMaxSize = DataSize.ofMegabytes(256);
+
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    private Duration redisTtl = Duration.ofHours(6);
+
+    // S3 파일 목록 변경분 조회 주기
+    private Duration listingRefreshInterval = Duration.ofMinutes(1);
+
+    // 삭제 반영을 위한 전체 목록 조회 주기
+    private Duration listingFullRefreshInterval = Duration.ofMinutes(30);
+
+    private long listingMaxEntries = 10_000;
+
+    // 다운로드한 결과 CSV 디스크 캐시 위치와 전체 용량 상한
+    private String fileCacheDirectory = System.getProperty("java.io.tmpdir") + "/subsub-result-files";
+
+    private DataSize fileCacheMaxSize = DataSize.ofGigabytes(2);
+
+    // 결과 파일별 인사이트 보관 기간 (같은 파일의 인사이트는 바뀌지 않음)
+    private Duration insightTtl = Duration.ofDays(30);
+}
@@ -0,0 +1,11 @@
+package com.aesopwow.subsubclipclop.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 분석 작업 워커 풀은 AnalysisJobDispatcher 내부에서 생성
+// (Executor 빈으로 등록하면 기본 applicationTaskExecutor 자동 설정이 비활성화됨)
+@Configuration
+@EnableConfigurationProperties(AnalysisJobProperties.class)
+public class AnalysisJobConfig {
+}
@@ -0,0 +1,36 @@
+package com.aesopwow.subsubclipclop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analysis.job")
+public class AnalysisJobProperties {
+    // 동시에 Python 서버로 분석을 요청하는 워커 수
+    private int workers = 4;
+
+    // 대기 가능한 작업 수, 초과 시 요청은 FAILED 처리
+    private int queueCapacity = 100;
+
+    // 최초 시도 이후 재시도 횟수
+    private int maxRetries = 3;
+
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    // 재기동 시 이 시간보다 오래 RUNNING 인 요청은 처리하던 노드가 종료된 것으로 보고 다시 실행
+    // (분석 타임아웃 x (재시도 횟수 + 1) + 백오프보다 길게 설정)
+    private Duration staleRunningAfter = Duration.ofMinutes(30);
+
+    // 재기동 시 이 시각 이후에 생성된 PENDING 요청만 다시 실행 (이전 요청은 기존 동기 처리에서 이미 분석됨)
+    // 설정하지 않으면 PENDING 요청을 복구하지 않음
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime recoverCreatedAfter;
+}
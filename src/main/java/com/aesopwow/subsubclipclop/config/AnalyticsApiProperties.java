@@ -0,0 +1,116 @@
+package com.aesopwow.subsubclipclop.config;
+
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analytics.api")
+public class AnalyticsApiProperties {
+    // Python 분석 서버 주소
+    private String baseUrl = "http://15.164.211.80:5001";
+
+    // Python 분석 서버 복제본 주소 목록 (비어 있으면 baseUrl 하나로만 호출)
+    private List<String> replicas = new ArrayList<>();
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    // h2c(HTTP/2 cleartext) 사용 여부, 서버가 지원하지 않으면 HTTP/1.1 로 동작
+    private boolean http2Enabled = false;
+
+    // bodyToMono(byte[]) 등으로 메모리에 모을 수 있는 최대 응답 크기
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(64);
+
+    private Duration defaultTimeout = Duration.ofSeconds(100);
+
+    // 엔드포인트별 응답 타임아웃 (없으면 defaultTimeout)
+    private Map<AnalyticsEndpoint, Duration> timeouts = new EnumMap<>(AnalyticsEndpoint.class);
+
+    // 스트리밍 응답에서 헤더 이후 다음 청크까지 기다리는 최대 시간 (본문이 멈추면 전송 중단)
+    private Duration streamIdleTimeout = Duration.ofSeconds(30);
+
+    private final Pool pool = new Pool();
+
+    private final Limiter limiter = new Limiter();
+
+    private final Batch batch = new Batch();
+
+    private final Routing routing = new Routing();
+
+    public Duration getTimeout(AnalyticsEndpoint endpoint) {
+        return timeouts.getOrDefault(endpoint, defaultTimeout);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 100;
+
+        // 커넥션 획득 대기열 최대 길이
+        private int pendingAcquireMaxCount = 500;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+        // 유휴 커넥션 정리 기준
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictInBackground = Duration.ofSeconds(30);
+    }
+
+    // Python 서버 전체 동시 호출 수 적응형 제한 (AIMD)
+    @Getter
+    @Setter
+    public static class Limiter {
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 100;
+
+        // 타임아웃/5xx/연결 실패 시 limit 에 곱하는 비율
+        private double backoffRatio = 0.9;
+    }
+
+    // 일괄 분석 요청 (/api/analysis/batch)
+    @Getter
+    @Setter
+    public static class Batch {
+        // 중복 제거 후 한 번에 받을 수 있는 최대 항목 수
+        private int maxItems = 20;
+
+        // 한 요청 안에서 Python 서버로 동시에 보낼 호출 수
+        private int parallelism = 4;
+    }
+
+    // 복제본 간 라우팅 (지연 EWMA x 진행 중 요청 수가 작은 쪽으로 전송)
+    @Getter
+    @Setter
+    public static class Routing {
+        // 지연 EWMA 시간 상수 (클수록 과거 지연을 오래 반영)
+        private Duration ewmaDecay = Duration.ofSeconds(10);
+
+        // GET 요청이 p95 지연 안에 응답하지 않으면 다른 복제본으로 중복 요청
+        private boolean hedgeEnabled = true;
+
+        private double hedgeQuantile = 0.95;
+
+        // 표본이 적거나 p95 가 너무 작을 때의 최소 대기 시간
+        private Duration hedgeMinDelay = Duration.ofMillis(50);
+
+        // 연속 실패(연결 실패/5xx) 시 일정 시간 라우팅 대상에서 제외
+        private int ejectAfterFailures = 5;
+
+        private Duration ejectionTime = Duration.ofSeconds(30);
+    }
+}
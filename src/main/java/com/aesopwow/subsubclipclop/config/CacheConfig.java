@@ -0,0 +1,42 @@
+package com.aesopwow.subsubclipclop.config;
+
+import com.aesopwow.subsubclipclop.domain.api.cache.FileListing;
+import com.aesopwow.subsubclipclop.domain.api.csv.ColumnarTable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({AnalysisCacheProperties.class, CohortStoreProperties.class})
+public class CacheConfig {
+
+    // 분석 결과 1차 캐시 (용량 기준 W-TinyLFU 제거)
+    @Bean
+    public Cache<String, byte[]> analysisResultLocalCache(AnalysisCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalMaxSize().toBytes())
+                .weigher((String key, byte[] value) -> value.length)
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+    }
+
+    // 파싱된 CSV 컬럼형 테이블 캐시 (파일 key 단위)
+    @Bean
+    public Cache<String, ColumnarTable> columnarTableCache(AnalysisCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumWeight(properties.getColumnarMaxSize().toBytes())
+                .weigher((String key, ColumnarTable table) -> (int) Math.min(Integer.MAX_VALUE, table.getEstimatedBytes()))
+                .expireAfterAccess(properties.getLocalTtl())
+                .build();
+    }
+
+    // S3 파일 목록 캐시 (만료 없이 FileListingCache 가 직접 갱신/무효화)
+    @Bean
+    public Cache<String, FileListing> fileListingLocalCache(AnalysisCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getListingMaxEntries())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.aesopwow.subsubclipclop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analysis.cohort")
+public class CohortStoreProperties {
+    // 코호트 행이 채워지는 기간(개월), target_date 기준 이보다 오래된 코호트 월은 더 이상 바뀌지 않는 확정 행
+    private int horizonMonths = 12;
+
+    // 확정 행 보관 기간 (저장할 때마다 갱신)
+    private Duration ttl = Duration.ofDays(90);
+}
@@ -0,0 +1,31 @@
+package com.aesopwow.subsubclipclop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dashboard.snapshot")
+public class DashboardSnapshotProperties {
+    private boolean refreshEnabled = true;
+
+    // 스냅샷 재계산 주기 (구독자 데이터는 최대 시간 단위로 변경)
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    // 이 기간 안에 조회된 대시보드만 미리 계산
+    private Duration activeWindow = Duration.ofDays(1);
+
+    // 갱신 시작 시점을 분산시키기 위한 최대 지연
+    private Duration maxJitter = Duration.ofMinutes(5);
+
+    // 주기 갱신 대상으로 보관하는 대시보드 수 (초과 시 가장 오래전에 조회된 것부터 제외)
+    private int maxActiveKeys = 1000;
+
+    // 동시에 갱신하는 대시보드 수
+    private int parallelism = 4;
+
+    private Duration ttl = Duration.ofDays(2);
+}
@@ -1,22 +1,49 @@
 package com.aesopwow.subsubclipclop.config;
 
 import com.aesopwow.subsubclipclop.domain.alarm.message.RedisSubscriber;
+import com.aesopwow.subsubclipclop.domain.api.cache.AnalysisResultCache;
+import com.aesopwow.subsubclipclop.domain.api.cache.AnalysisResultCacheListener;
+import com.aesopwow.subsubclipclop.domain.api.cache.FileListingCache;
+import com.aesopwow.subsubclipclop.domain.api.cache.FileListingCacheListener;
+import com.aesopwow.subsubclipclop.domain.auth.jwt.TokenBlacklist;
+import com.aesopwow.subsubclipclop.domain.auth.jwt.TokenBlacklistListener;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    // 연결 이벤트(끊김 등)를 구독할 수 있도록 Lettuce 리소스를 빈으로 공유
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        return DefaultClientResources.create();
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
         // localhost:6379 기본 설정
-        return new LettuceConnectionFactory("43.202.78.185", 6379);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(lettuceClientResources)
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration("43.202.78.185", 6379), clientConfiguration);
     }
 
     @Bean
@@ -27,19 +54,53 @@ public class RedisConfig {
         // 문자열 직렬화 사용
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 
         return redisTemplate;
     }
 
+    // 분석 결과(byte[]) 캐시용 논블로킹 템플릿
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
     // pub/sub 메시지 처리용 리스너 컨테이너
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory, RedisSubscriber redisSubscriber) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisSubscriber redisSubscriber,
+                                                                       AnalysisResultCacheListener analysisResultCacheListener,
+                                                                       FileListingCacheListener fileListingCacheListener,
+                                                                       TokenBlacklistListener tokenBlacklistListener,
+                                                                       Environment environment) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
+        // 가상 스레드 모드에서는 메시지 처리(SSE 전송 등)를 가상 스레드에서 실행
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(listenerExecutor);
+        }
+
         // alarm 채널 구독 설정
         container.addMessageListener(redisSubscriber, new PatternTopic("alarm"));
 
+        // 분석 결과 캐시 무효화 채널 (다른 노드의 로컬 캐시 동기화)
+        container.addMessageListener(analysisResultCacheListener, new ChannelTopic(AnalysisResultCache.INVALIDATE_CHANNEL));
+
+        // S3 파일 목록 캐시 무효화 채널
+        container.addMessageListener(fileListingCacheListener, new ChannelTopic(FileListingCache.INVALIDATE_CHANNEL));
+
+        // 로그아웃 토큰 블랙리스트 전파 채널
+        container.addMessageListener(tokenBlacklistListener, new ChannelTopic(TokenBlacklist.CHANNEL));
+
         return container;
     }
 }
@@ -0,0 +1,11 @@
+package com.aesopwow.subsubclipclop.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DashboardSnapshotProperties.class)
+public class SchedulingConfig {
+}
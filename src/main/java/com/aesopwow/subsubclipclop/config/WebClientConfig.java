@@ -0,0 +1,63 @@
+package com.aesopwow.subsubclipclop.config;
+
+import com.aesopwow.subsubclipclop.domain.api.support.AnalyticsLoadBalancer;
+import com.aesopwow.subsubclipclop.domain.api.support.AnalyticsMetricsFilter;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@EnableConfigurationProperties(AnalyticsApiProperties.class)
+public class WebClientConfig {
+
+    // Python 분석 서버 전용 커넥션 풀 (keep-alive 커넥션 재사용)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider analyticsConnectionProvider(AnalyticsApiProperties properties) {
+        AnalyticsApiProperties.Pool pool = properties.getPool();
+
+        return ConnectionProvider.builder("analytics-api")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .build();
+    }
+
+    @Bean
+    public WebClient analyticsWebClient(WebClient.Builder builder,
+                                        ConnectionProvider analyticsConnectionProvider,
+                                        AnalyticsMetricsFilter analyticsMetricsFilter,
+                                        AnalyticsLoadBalancer analyticsLoadBalancer,
+                                        AnalyticsApiProperties properties) {
+        HttpClient httpClient = HttpClient.create(analyticsConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis());
+
+        if (properties.isHttp2Enabled()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        // 호출 지표는 헤징/복제본 선택을 포함한 전체 호출 기준으로 측정 (먼저 등록한 필터가 바깥쪽)
+        builder = builder.filter(analyticsMetricsFilter);
+
+        // 복제본 목록이 있으면 baseUrl 로 만든 요청 주소를 로드밸런서가 선택한 복제본으로 바꿔서 전송
+        if (analyticsLoadBalancer.isEnabled()) {
+            builder = builder.filter(analyticsLoadBalancer);
+        }
+
+        return builder
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+    }
+}
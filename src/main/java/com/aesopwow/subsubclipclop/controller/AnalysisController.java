@@ -1,29 +1,45 @@
 package com.aesopwow.subsubclipclop.controller;
 
 import com.aesopwow.subsubclipclop.domain.analysis.service.AnalysisService;
+import com.aesopwow.subsubclipclop.domain.api.cache.OpenResultFile;
+import com.aesopwow.subsubclipclop.domain.api.cache.ResultFileCache;
+import com.aesopwow.subsubclipclop.domain.api.csv.CsvTableService;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiBatchRequestDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiCohortRequestDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightStatusResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.CsvPageResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.enums.InsightStatus;
+import com.aesopwow.subsubclipclop.domain.api.insight.InsightService;
+import com.aesopwow.subsubclipclop.domain.api.service.AnalysisBatchService;
 import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
 import com.aesopwow.subsubclipclop.entity.Analysis;
+import com.aesopwow.subsubclipclop.entity.CustomUserDetails;
+import com.aesopwow.subsubclipclop.global.util.CompressionUtil;
+import com.aesopwow.subsubclipclop.global.util.StreamingResponseUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.Mapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/analysis")
@@ -31,6 +47,10 @@ import java.util.stream.Collectors;
 public class AnalysisController {
     private final ApiService apiService;
     private final AnalysisService analysisService;
+    private final CsvTableService csvTableService;
+    private final ResultFileCache resultFileCache;
+    private final AnalysisBatchService analysisBatchService;
+    private final InsightService insightService;
 
 //    @GetMapping("")
 //    public ResponseEntity<byte[]> getAnalysisResult(
@@ -55,26 +75,69 @@ public class AnalysisController {
 //    }
 
     @GetMapping("/cohort")
-    public ResponseEntity<byte[]> getAnalysisCohortOneResult(
+    public Mono<ResponseEntity<StreamingResponseBody>> getAnalysisCohortOneResult(
             @RequestParam Long infoDbNo,
             @RequestParam Long analysisNo,
-            @RequestParam String filename) {
+            @RequestParam String filename,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         Analysis analysis = analysisService.getAnalysisByNo(analysisNo);
 
         if(analysis == null)
             throw new IllegalArgumentException("잘못된 analysis 번호입니다.");
 
-        byte[] fileBytes = apiService.getCohortOneAnalysis(infoDbNo, analysis, filename);
+        MediaType contentType = MediaType.valueOf("text/csv");
+        boolean acceptsGzip = CompressionUtil.acceptsGzip(acceptEncoding);
+        String analysisType = analysis.getName().split("-")[1];
+
+        // 디스크 캐시 key 는 목록 캐시의 LastModified 로 버전을 붙임 (목록에 없는 파일은 디스크 캐시를 거치지 않음)
+        return apiService.findCohortFile(infoDbNo, analysis, filename)
+                .mapNotNull(file -> ResultFileCache.cohortFileKey(infoDbNo, analysisType, filename, file.getLastModified()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // 디스크 파일 열기는 이벤트 루프 밖에서 처리
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(fileKey -> {
+                    // 디스크에 받아둔 파일이 있으면 업스트림 호출 없이 바로 응답 (Range/If-Range 도 여기서 처리)
+                    Optional<OpenResultFile> cached = fileKey.flatMap(resultFileCache::open);
+                    if (cached.isPresent()) {
+                        return Mono.just(StreamingResponseUtil.toFileResponse(
+                                cached.get(), contentType, filename, acceptsGzip, range, ifRange));
+                    }
+
+                    return apiService.streamCohortOneAnalysis(infoDbNo, analysis, filename, range, ifRange)
+                            .map(upstream -> StreamingResponseUtil.toStreamingResponse(
+                                    fileKey.map(key -> resultFileCache.tee(key, upstream)).orElse(upstream),
+                                    contentType, filename, acceptsGzip));
+                });
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.valueOf("text/csv"));
-        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+    // CSV 를 서버에서 파싱해 페이지/컬럼/필터 단위로 반환 (filter 형식: 컬럼:연산자:값)
+    @GetMapping("/cohort/table")
+    public Mono<ResponseEntity<CsvPageResponseDto>> getAnalysisCohortOneTable(
+            @RequestParam Long infoDbNo,
+            @RequestParam Long analysisNo,
+            @RequestParam String filename,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(name = "filter", required = false) List<String> filters) {
+        Analysis analysis = analysisService.getAnalysisByNo(analysisNo);
+
+        if(analysis == null)
+            throw new IllegalArgumentException("잘못된 analysis 번호입니다.");
 
-        return new ResponseEntity<>(fileBytes, headers, HttpStatus.OK);
+        String fileKey = "cohort:" + infoDbNo + ":" + analysisNo + ":" + filename;
+
+        return csvTableService.getPage(fileKey,
+                        () -> apiService.getCohortOneAnalysis(infoDbNo, analysis, filename),
+                        offset, limit, columns, filters)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/cohort/list")
-    public ResponseEntity<List<ApiFileInfoResponseDto>> getAnalysisCohortListResult(
+    public Mono<ResponseEntity<List<ApiFileInfoResponseDto>>> getAnalysisCohortListResult(
             @RequestParam Long infoDbNo,
             @RequestParam Long analysisNo) {
         Analysis analysis = analysisService.getAnalysisByNo(analysisNo);
@@ -82,24 +145,14 @@ public class AnalysisController {
         if(analysis == null)
             throw new IllegalArgumentException("잘못된 analysis 번호입니다.");
 
-        Map<String, Object> response = apiService.getCohortListAnalysis(infoDbNo, analysis);
-
-        List<Map<String, Object>> contents = (List<Map<String, Object>>) response.get("Contents");
-
-        List<ApiFileInfoResponseDto> fileInfos = contents.stream()
-                .map(item -> new ApiFileInfoResponseDto(
-                        (String) item.get("Key"),
-                        (String) item.get("LastModified"),
-                        ((Number) item.get("Size")).longValue()
-                ))
-                .collect(Collectors.toList());
-
-        return new ResponseEntity<>(fileInfos, HttpStatus.OK);
+        return apiService.getCohortListAnalysis(infoDbNo, analysis)
+                .map(fileInfos -> new ResponseEntity<>(fileInfos, HttpStatus.OK));
     }
 
     @PostMapping("/cohort")
-    public ResponseEntity<byte[]> requestAnalysisCohort(
-            @RequestBody ApiCohortRequestDto apiCohortRequestDto
+    public Mono<ResponseEntity<StreamingResponseBody>> requestAnalysisCohort(
+            @RequestBody ApiCohortRequestDto apiCohortRequestDto,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
 
         Analysis analysis = analysisService.getAnalysisByNo(apiCohortRequestDto.getAnalysisNo());
@@ -107,25 +160,42 @@ public class AnalysisController {
         if(analysis == null)
             throw new IllegalArgumentException("잘못된 analysis 번호입니다.");
 
-        byte[] fileBytes = apiService.requestCohortAnalysis(apiCohortRequestDto, analysis);
+        return apiService.streamCohortAnalysis(apiCohortRequestDto, analysis)
+                .map(upstream -> StreamingResponseUtil.toStreamingResponse(
+                        upstream, MediaType.APPLICATION_OCTET_STREAM, "analysis_result.csv",
+                        CompressionUtil.acceptsGzip(acceptEncoding)));
+    }
+
+    // 여러 Cohort/SHAP 분석을 한 번에 요청하고 결과를 ZIP 하나로 받음 (중복 항목은 한 번만 실행)
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> requestAnalysisBatch(
+            @RequestBody ApiBatchRequestDto apiBatchRequestDto) {
+        StreamingResponseBody body = analysisBatchService.zip(apiBatchRequestDto);
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDisposition(ContentDisposition
-                .attachment()
-                .filename("analysis_result.csv")
-                .build());
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDisposition(ContentDisposition.attachment().filename("analysis_batch.zip").build());
 
-        return new ResponseEntity<>(fileBytes, headers, HttpStatus.OK);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     @GetMapping("/cohort/insight")
-    public ResponseEntity<ApiInsightResponseDto> getAnalysisCohortOneInsight(
+    public Mono<ResponseEntity<ApiInsightResponseDto>> getAnalysisCohortOneInsight(
             @RequestParam String filename) {
 
-        ApiInsightResponseDto apiInsightResponseDto
-                = apiService.getInsightByFilename(filename);
+        return insightService.getInsight(filename)
+                .map(apiInsightResponseDto -> new ResponseEntity<>(apiInsightResponseDto, HttpStatus.OK));
+    }
+
+    // 인사이트 비동기 요청: 저장된 결과가 있으면 200, 없으면 202 후 완료 시 알람 SSE 로 통지
+    @PostMapping("/cohort/insight")
+    public Mono<ResponseEntity<ApiInsightStatusResponseDto>> requestAnalysisCohortOneInsight(
+            @RequestParam String filename,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Long userNo = customUserDetails == null ? null : customUserDetails.getUserNo();
 
-        return new ResponseEntity<>(apiInsightResponseDto, HttpStatus.OK);
+        return insightService.requestInsight(filename, userNo)
+                .map(response -> new ResponseEntity<>(response,
+                        response.getStatus() == InsightStatus.READY ? HttpStatus.OK : HttpStatus.ACCEPTED));
     }
-}
\ No newline at end of file
+}
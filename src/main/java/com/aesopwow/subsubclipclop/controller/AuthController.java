@@ -1,6 +1,7 @@
 package com.aesopwow.subsubclipclop.controller;
 
 import com.aesopwow.subsubclipclop.domain.auth.dto.*;
+import com.aesopwow.subsubclipclop.domain.auth.dto.request.RefreshTokenRequestDto;
 import com.aesopwow.subsubclipclop.domain.auth.dto.request.SendOTPRequestDto;
 import com.aesopwow.subsubclipclop.domain.auth.dto.request.SignUpRequestDto;
 import com.aesopwow.subsubclipclop.domain.auth.dto.response.TokenResponseDto;
@@ -31,6 +32,15 @@ public class AuthController {
         return ResponseEntity.ok(tokenResponseDto);
     }
 
+    // 리프레시 토큰 회전 방식 재발급 (응답의 refreshToken 으로 교체해서 사용)
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스/리프레시 토큰을 재발급합니다. 사용한 리프레시 토큰은 폐기되며, 재사용하면 해당 로그인 세션이 모두 폐기됩니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        TokenResponseDto tokenResponseDto = authService.refresh(request.getRefreshToken());
+
+        return ResponseEntity.ok(tokenResponseDto);
+    }
+
     @Operation(summary = "로그아웃", description = "Redis에 담겨있는 정보들을 삭제한다.")
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@RequestHeader("Authorization") String bearerToken) {
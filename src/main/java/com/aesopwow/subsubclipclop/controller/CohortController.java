@@ -8,6 +8,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/cohort")
@@ -17,12 +18,11 @@ public class CohortController {
     private final CohortService cohortService;
 
     @PostMapping("/analyze")
-    public ResponseEntity<Resource> analyzeCohort(@RequestBody CohortRequestDto requestDto) {
-        Resource csvResource = cohortService.getCohortAnalysisCsv(requestDto);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=result.csv")
-                .contentType(MediaType.parseMediaType("text/csv"))
-                .body(csvResource);
+    public Mono<ResponseEntity<Resource>> analyzeCohort(@RequestBody CohortRequestDto requestDto) {
+        return cohortService.getCohortAnalysisCsv(requestDto)
+                .map(csvResource -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=result.csv")
+                        .contentType(MediaType.parseMediaType("text/csv"))
+                        .body(csvResource));
     }
 }
@@ -1,6 +1,7 @@
 package com.aesopwow.subsubclipclop.controller;
 
-import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
+import com.aesopwow.subsubclipclop.domain.dashboard.dto.DashboardSnapshot;
+import com.aesopwow.subsubclipclop.domain.dashboard.service.DashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -16,7 +17,11 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/api/dash-board")
 @RequiredArgsConstructor
 public class DashBoardController {
-    private final ApiService apiService;
+    private static final String SNAPSHOT_VERSION_HEADER = "X-Dashboard-Snapshot-Version";
+    // 스냅샷 생성 후 경과 시간(초)
+    private static final String STALENESS_HEADER = "X-Dashboard-Staleness";
+
+    private final DashboardSnapshotService dashboardSnapshotService;
 
 //    @ExceptionHandler
 //    @GetMapping("/{infoDbNo}")
@@ -29,19 +34,24 @@ public class DashBoardController {
 //        return ResponseEntity.ok(apiResponseDto);
 //    }
 
+    // 미리 계산된 스냅샷을 반환, fresh=true 면 Python 서버에서 다시 계산
     @GetMapping("")
     public Mono<ResponseEntity<byte[]>> getDashBoardCSV(
             @RequestParam int infoDbNo,
             @RequestParam String user_info,
-            @RequestParam String user_sub_info) {
+            @RequestParam String user_sub_info,
+            @RequestParam(defaultValue = "false") boolean fresh) {
 
-        Mono<byte[]> response = apiService.getAnalysisResult(infoDbNo, user_info, user_sub_info);
+        Mono<DashboardSnapshot> response = dashboardSnapshotService.getSnapshot(infoDbNo, user_info, user_sub_info, fresh);
 
-        return response.map(body -> {
+        return response.map(snapshot -> {
                     HttpHeaders headers = new HttpHeaders();
                     headers.setContentType(MediaType.parseMediaType("text/csv"));
                     headers.setContentDisposition(ContentDisposition.attachment().filename("default").build());
-                    return ResponseEntity.ok().headers(headers).body(body);
+                    headers.setLastModified(snapshot.getGeneratedAt());
+                    headers.set(SNAPSHOT_VERSION_HEADER, String.valueOf(snapshot.getVersion()));
+                    headers.set(STALENESS_HEADER, String.valueOf(snapshot.staleness().toSeconds()));
+                    return ResponseEntity.ok().headers(headers).body(snapshot.getData());
                 });
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -18,12 +19,11 @@ public class InfoColumnController {
     private final ApiService apiService;
 
     @GetMapping("/ext")
-    public ResponseEntity<List<InfoColumnResponseDto>> getExternalInfoColumns(
+    public Mono<ResponseEntity<List<InfoColumnResponseDto>>> getExternalInfoColumns(
             @RequestParam Long infoDbNo,
             @RequestParam(required = false) String originTable) {
-        List<InfoColumnResponseDto> infoColumns = apiService.callExternalApiInfoColumns(infoDbNo, originTable);
-
-        return ResponseEntity.ok(infoColumns);
+        return apiService.callExternalApiInfoColumns(infoDbNo, originTable)
+                .map(ResponseEntity::ok);
     }
 
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/info-db")
@@ -27,11 +28,10 @@ public class InfoDbController {
     }
 
     @GetMapping("/ext/{companyNo}")
-    public ResponseEntity<String> getExternalInfoDb(
+    public Mono<ResponseEntity<String>> getExternalInfoDb(
             @PathVariable Long companyNo) {
-        String str = apiService.callExternalApi(companyNo);
-
-        return ResponseEntity.ok(str);
+        return apiService.callExternalApi(companyNo)
+                .map(ResponseEntity::ok);
     }
 
 //    @GetMapping("")
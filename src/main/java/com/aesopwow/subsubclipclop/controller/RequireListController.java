@@ -1,14 +1,12 @@
 package com.aesopwow.subsubclipclop.controller;
 
-import com.aesopwow.subsubclipclop.domain.api.dto.ApiRequestDto;
-import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListRequestDto;
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListResponseDto;
 import com.aesopwow.subsubclipclop.domain.require_list.service.RequireListService;
-import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
-import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import com.aesopwow.subsubclipclop.entity.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,7 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RequireListController {
     private final RequireListService requireListService;
-    private final ApiService apiService;
 
     @GetMapping("/{requireListNo}")
     public ResponseEntity<RequireListResponseDto> getRequireList(
@@ -33,24 +30,17 @@ public class RequireListController {
         return ResponseEntity.ok(requireListResponseDto);
     }
 
+    // 요청은 PENDING 으로 저장만 하고 바로 202 반환, 진행 상태는 GET /{requireListNo} 또는 SSE 알림으로 확인
     @PostMapping("")
     public ResponseEntity<RequireListResponseDto> createRequireList(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestBody RequireListRequestDto requestDto
     ) {
-        RequireListResponseDto requireListResponseDto =
-                requireListService.createRequireList(requestDto);
-
-        ApiRequestDto apiRequestDto
-                = new ApiRequestDto(requestDto.getDbInfoNo());
+        Long userNo = customUserDetails != null ? customUserDetails.getUserNo() : null;
 
-        try {
-            apiService.requestAnalysis(apiRequestDto);
-        } catch (CustomException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.ANALYSIS_API_CALL_FAILURE, e);
-        }
+        RequireListResponseDto requireListResponseDto =
+                requireListService.createRequireList(requestDto, userNo);
 
-        return ResponseEntity.ok(requireListResponseDto);
+        return ResponseEntity.accepted().body(requireListResponseDto);
     }
 }
@@ -1,8 +1,16 @@
 package com.aesopwow.subsubclipclop.controller;
 
+import com.aesopwow.subsubclipclop.domain.api.cache.OpenResultFile;
+import com.aesopwow.subsubclipclop.domain.api.cache.ResultFileCache;
+import com.aesopwow.subsubclipclop.domain.api.csv.CsvTableService;
+import com.aesopwow.subsubclipclop.domain.api.dto.CsvPageResponseDto;
+import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentAllResponseDto;
 import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentFileListResponseDto;
 import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentDto;
+import com.aesopwow.subsubclipclop.domain.segment.enums.SegmentType;
 import com.aesopwow.subsubclipclop.domain.segment.service.SegmentService;
+import com.aesopwow.subsubclipclop.global.util.CompressionUtil;
+import com.aesopwow.subsubclipclop.global.util.StreamingResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +20,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/segment")
@@ -20,59 +33,72 @@ import org.springframework.web.bind.annotation.*;
 public class SegmentController {
 
     private final SegmentService segmentService;
+    private final CsvTableService csvTableService;
+    private final ResultFileCache resultFileCache;
 
     /*
         지금 엔드 포인트 수정했고 해당 엔드포인트와 이름 별로 subscription 추가해함
      */
     @GetMapping("/subscription")
     @Operation(summary = "구독 유형", description = "구독 유형 세그먼트 분석")
-    public ResponseEntity<SegmentDto> segmentSubscription(
+    public Mono<ResponseEntity<SegmentDto>> segmentSubscription(
             @RequestParam int info_db_no,
             @RequestParam(defaultValue = "user_info") String user_info,
             @RequestParam(defaultValue = "user_sub_info") String user_sub_info
     ) {
-        SegmentDto response = segmentService.segmentSubscription(info_db_no, user_info, user_sub_info);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return segmentService.segment(SegmentType.SUBSCRIPTION, info_db_no, user_info, user_sub_info)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
     }
 
     @GetMapping("/watch-time")
     @Operation(summary = "누적 시청시간", description = "누적 시청시간 세그먼트 분석")
-    public ResponseEntity<SegmentDto> segmentWatchTime(
+    public Mono<ResponseEntity<SegmentDto>> segmentWatchTime(
             @RequestParam int info_db_no,
             @RequestParam(defaultValue = "user_info") String user_info,
             @RequestParam(defaultValue = "user_sub_info") String user_sub_info
     ) {
-        SegmentDto response = segmentService.segmentWatchTime(info_db_no, user_info, user_sub_info);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return segmentService.segment(SegmentType.WATCH_TIME, info_db_no, user_info, user_sub_info)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
     }
 
     @GetMapping("/last-login")
     @Operation(summary = "마지막 접속일", description = "마지막 접속일 세그먼트 분석")
-    public ResponseEntity<SegmentDto> lastLoginSegment(
+    public Mono<ResponseEntity<SegmentDto>> lastLoginSegment(
             @RequestParam int info_db_no,
             @RequestParam(defaultValue = "user_info") String user_info,
             @RequestParam(defaultValue = "user_sub_info") String user_sub_info
     ) {
-        SegmentDto response = segmentService.lastLoginSegment(info_db_no, user_info, user_sub_info);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return segmentService.segment(SegmentType.LAST_LOGIN, info_db_no, user_info, user_sub_info)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
     }
 
     @GetMapping("/genre")
     @Operation(summary = "선호 장르", description = "선호 장르 세그먼트 분석")
-    public ResponseEntity<SegmentDto> genreSegment(
+    public Mono<ResponseEntity<SegmentDto>> genreSegment(
             @RequestParam int info_db_no,
             @RequestParam(defaultValue = "user_info") String user_info,
             @RequestParam(defaultValue = "user_sub_info") String user_sub_info
     ) {
-        SegmentDto response = segmentService.genreSegment(info_db_no, user_info, user_sub_info);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return segmentService.segment(SegmentType.GENRE, info_db_no, user_info, user_sub_info)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    @GetMapping("/all")
+    @Operation(summary = "전체 세그먼트", description = "구독 유형/누적 시청시간/마지막 접속일/선호 장르 세그먼트를 한 번에 분석")
+    public Mono<ResponseEntity<SegmentAllResponseDto>> segmentAll(
+            @RequestParam int info_db_no,
+            @RequestParam(defaultValue = "user_info") String user_info,
+            @RequestParam(defaultValue = "user_sub_info") String user_sub_info
+    ) {
+        return segmentService.segmentAll(info_db_no, user_info, user_sub_info)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.OK));
     }
 
 
     // 리스트 조회
     @GetMapping("/list")
     @Operation(summary = "리스트 조회", description = "원하는 유형의 리스트 조회")
-    public SegmentFileListResponseDto getSegmentFileList(
+    public Mono<SegmentFileListResponseDto> getSegmentFileList(
             @RequestParam int infoDbNo,
             @RequestParam String targetColumn
     ) {
@@ -82,30 +108,47 @@ public class SegmentController {
     // 리스트에서 하나의 csv 파일 선택 (Query Param 방식)
     @GetMapping("/list/file")
     @Operation(summary = "csv 파일 다운", description = "원하는 csv 파일 다운")
-    public ResponseEntity<byte[]> getSegmentCsvFile(
-            @RequestParam("s3Key") String s3Key
+    public Mono<ResponseEntity<StreamingResponseBody>> getSegmentCsvFile(
+            @RequestParam("s3Key") String s3Key,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        try {
-            // Flask 서버에 요청해서 파일 데이터(byte[]) 받기
-            byte[] csvBytes = (byte[]) segmentService.getSegmentCsvFile(s3Key);
-
-            // 파일명 추출 (s3Key에서 마지막 / 뒤의 값)
-            String filename = s3Key.substring(s3Key.lastIndexOf('/') + 1);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDisposition(
-                    ContentDisposition.attachment()
-                            .filename(filename)
-                            .build()
-            );
-
-            return new ResponseEntity<>(csvBytes, headers, HttpStatus.OK);
-        } catch (Exception e) {
-            // 에러 시 간단한 메시지 반환
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(null);
+        // 파일명 추출 (s3Key에서 마지막 / 뒤의 값)
+        String filename = s3Key.substring(s3Key.lastIndexOf('/') + 1);
+        MediaType contentType = MediaType.parseMediaType("text/csv");
+        boolean acceptsGzip = CompressionUtil.acceptsGzip(acceptEncoding);
+        String fileKey = ResultFileCache.segmentFileKey(s3Key);
+
+        // 디스크에 받아둔 파일이 있으면 Flask/S3 를 거치지 않고 바로 응답 (Range/If-Range 도 여기서 처리)
+        Optional<OpenResultFile> cached = resultFileCache.open(fileKey);
+        if (cached.isPresent()) {
+            return Mono.just(StreamingResponseUtil.toFileResponse(
+                    cached.get(), contentType, filename, acceptsGzip, range, ifRange));
         }
+
+        // Flask 서버 응답을 메모리에 모으지 않고 그대로 스트리밍 (동시에 디스크 캐시에 기록)
+        return segmentService.getSegmentCsvFile(s3Key, range, ifRange)
+                .map(upstream -> StreamingResponseUtil.toStreamingResponse(
+                        resultFileCache.tee(fileKey, upstream), contentType, filename, acceptsGzip))
+                // 에러 시 간단한 메시지 반환
+                .onErrorResume(e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+    }
+
+    @GetMapping("/list/file/table")
+    @Operation(summary = "csv 파일 조회", description = "csv 파일을 서버에서 파싱해 페이지/컬럼/필터 단위로 조회 (filter 형식: 컬럼:연산자:값)")
+    public Mono<ResponseEntity<CsvPageResponseDto>> getSegmentCsvTable(
+            @RequestParam("s3Key") String s3Key,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(name = "filter", required = false) List<String> filters
+    ) {
+        return csvTableService.getPage("segment:" + s3Key,
+                        () -> segmentService.getSegmentCsvBytes(s3Key),
+                        offset, limit, columns, filters)
+                .map(ResponseEntity::ok);
     }
 
 //    // 해당 csv 파일 삭제하는 컨트롤러
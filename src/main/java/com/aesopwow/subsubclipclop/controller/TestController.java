@@ -1,8 +1,10 @@
 package com.aesopwow.subsubclipclop.controller;
 
 import com.aesopwow.subsubclipclop.domain.user.dto.UserResponseDTO;
+import com.aesopwow.subsubclipclop.domain.user.service.UserService;
 import com.aesopwow.subsubclipclop.entity.CustomUserDetails;
 import com.aesopwow.subsubclipclop.entity.User;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +13,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RequestMapping("/api/test")
 @RestController
+@RequiredArgsConstructor
 public class TestController {
+    private final UserService userService;
 
     @GetMapping()
     public ResponseEntity<UserResponseDTO> getTest(
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
-        User user = customUserDetails.getUser();
+        // 인증 주체에는 식별자만 있으므로 전체 정보는 DB 에서 조회
+        User user = userService.getOneUserByUserNo(customUserDetails.getUserNo());
         UserResponseDTO userResponseDTO = UserResponseDTO.from(user);
         return ResponseEntity.ok(userResponseDTO);
     }
@@ -69,11 +69,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestParam @Valid @Email String userEmail
     ) {
-        User adminUser = customUserDetails.getUser();
-
-        if (!Role.RoleType.CLIENT_ADMIN.equals(adminUser.getRole().getName())) {
-            throw new CustomException(ErrorCode.ONLY_CLIENT_ADMIN_ALLOWED);
-        }
+        User adminUser = getClientAdmin(customUserDetails);
 
         userService.addStaff(adminUser.getUserNo(), userEmail);
 
@@ -105,18 +101,14 @@ public class UserController {
     public ResponseEntity<BaseResponseDto<List<UserResponseDTO>>> getStaffList(
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
-        User user = customUserDetails.getUser();
-        if (user.getRole().getName() == Role.RoleType.CLIENT_ADMIN) {
-            List<User> staffList = userService.getStaffList(user.getUserNo());
+        User adminUser = getClientAdmin(customUserDetails);
+        List<User> staffList = userService.getStaffList(adminUser.getUserNo());
 
-            List<UserResponseDTO> result = staffList.stream()
-                    .map(UserResponseDTO::from)
-                    .toList();
+        List<UserResponseDTO> result = staffList.stream()
+                .map(UserResponseDTO::from)
+                .toList();
 
-            return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, result));
-        } else {
-            throw new CustomException(ErrorCode.ONLY_CLIENT_ADMIN_ALLOWED);
-        }
+        return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, result));
     }
 
     // 직원정보 삭제
@@ -142,11 +134,7 @@ public class UserController {
     public ResponseEntity<BaseResponseDto<String>> deleteStaff(
         @AuthenticationPrincipal CustomUserDetails customUserDetails,
         @PathVariable Long userNo) {
-        User adminUser = customUserDetails.getUser();
-
-        if (!Role.RoleType.CLIENT_ADMIN.equals(adminUser.getRole().getName())) {
-            throw new CustomException(ErrorCode.ONLY_CLIENT_ADMIN_ALLOWED);
-        }
+        getClientAdmin(customUserDetails);
         userService.deleteStaff(userNo);
         return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, "직원이 삭제되었습니다."));
     }
@@ -178,7 +166,7 @@ public class UserController {
     })
     public ResponseEntity<BaseResponseDto<UserResponseDTO>> getMyInfo(
         @AuthenticationPrincipal CustomUserDetails customUserDetails) {
-        Long userNo = customUserDetails.getUser().getUserNo();
+        Long userNo = customUserDetails.getUserNo();
 
         User user = userService.getOneUserByUserNo(userNo);
 
@@ -216,7 +204,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestBody UserUpdateRequestDTO userUpdateRequestDTO
     ) {
-        Long loginUserNo = customUserDetails.getUser().getUserNo();
+        Long loginUserNo = customUserDetails.getUserNo();
 
         userService.updateUser(loginUserNo, userUpdateRequestDTO);
 
@@ -252,7 +240,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestBody @Valid PasswordChangeRequestDTO passwordChangeRequestDTO
     ) {
-        Long loginUserNo = customUserDetails.getUser().getUserNo();
+        Long loginUserNo = customUserDetails.getUserNo();
         userService.changePassword(loginUserNo, passwordChangeRequestDTO);
 
         return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, "비밀번호가 성공적으로 변경되었습니다."));
@@ -282,13 +270,23 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestBody @Valid UserDeleteRequestDto userDeleteRequestDto
     ) {
-        Long loginUserNo = customUserDetails.getUser().getUserNo();
+        Long loginUserNo = customUserDetails.getUserNo();
         userService.updateUserIs_deleted(loginUserNo, userDeleteRequestDto);
 
         return ResponseEntity.ok(
                 new BaseResponseDto<>(HttpStatus.OK, "정상적으로 탈퇴 처리되었습니다.")
         );
     }
+
+    // 직원 관리 권한은 토큰 클레임(최대 액세스 토큰 수명만큼 이전 값일 수 있음) 대신 DB 의 현재 역할로 확인
+    private User getClientAdmin(CustomUserDetails customUserDetails) {
+        User user = userService.getOneUserByUserNo(customUserDetails.getUserNo());
+
+        if (!Role.RoleType.CLIENT_ADMIN.equals(user.getRole().getName())) {
+            throw new CustomException(ErrorCode.ONLY_CLIENT_ADMIN_ALLOWED);
+        }
+        return user;
+    }
 }
 
 
@@ -1,32 +1,38 @@
 package com.aesopwow.subsubclipclop.domain.analysis.service;
 
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
 import com.aesopwow.subsubclipclop.domain.analysis.dto.CohortRequestDto;
-import org.springframework.http.ResponseEntity;
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import com.aesopwow.subsubclipclop.domain.api.support.AnalyticsMetricsFilter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 
 @Service
+@RequiredArgsConstructor
 public class CohortService {
 
-    private final String FLASK_BASE_URL = "http://127.0.0.1:5001/api/cohort/analyze";
-
-    public Resource getCohortAnalysisCsv(CohortRequestDto dto) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<CohortRequestDto> request = new HttpEntity<>(dto, headers);
-
-        ResponseEntity<byte[]> response = restTemplate.postForEntity(
-                FLASK_BASE_URL, request, byte[].class);
-
-        return new ByteArrayResource(response.getBody());
+    private static final String FLASK_COHORT_ANALYZE_PATH = "/api/cohort/analyze";
+
+    // Python 분석 서버 공용 커넥션 풀 클라이언트
+    private final WebClient webClient;
+    private final AnalyticsApiProperties analyticsApiProperties;
+
+    public Mono<Resource> getCohortAnalysisCsv(CohortRequestDto dto) {
+        return webClient.post()
+                .uri(FLASK_COHORT_ANALYZE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(dto)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.COHORT))
+                .contextWrite(AnalyticsMetricsFilter.endpoint(AnalyticsEndpoint.COHORT))
+                .map(ByteArrayResource::new);
     }
 }
-
-
@@ -0,0 +1,120 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+// 분석 결과 2단 캐시 (1차: Caffeine 로컬, 2차: Redis), InfoDb 단위로 무효화
+@Component
+@RequiredArgsConstructor
+public class AnalysisResultCache {
+    public static final String INVALIDATE_CHANNEL = "analysis-result:invalidate";
+    private static final String REDIS_KEY_PREFIX = "analysis-result:";
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisResultCache.class);
+
+    private final Cache<String, byte[]> analysisResultLocalCache;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final AnalysisCacheProperties analysisCacheProperties;
+
+    // 로컬 -> Redis -> loader 순으로 조회하고, loader 결과는 두 캐시에 모두 저장
+    public Mono<byte[]> getOrLoad(String infoDbNo, String key, Supplier<Mono<byte[]>> loader) {
+        return get(infoDbNo, key)
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .flatMap(value -> put(infoDbNo, key, value).thenReturn(value))));
+    }
+
+    public Mono<byte[]> get(String infoDbNo, String key) {
+        String cacheKey = cacheKey(infoDbNo, key);
+
+        byte[] local = analysisResultLocalCache.getIfPresent(cacheKey);
+        if (local != null) {
+            return Mono.just(local);
+        }
+
+        return reactiveBytesRedisTemplate.opsForValue().get(REDIS_KEY_PREFIX + cacheKey)
+                .doOnNext(value -> analysisResultLocalCache.put(cacheKey, value))
+                .onErrorResume(e -> {
+                    log.warn("분석 결과 Redis 캐시 조회 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> put(String infoDbNo, String key, byte[] value) {
+        if (value == null || value.length > analysisCacheProperties.getMaxEntrySize().toBytes()) {
+            return Mono.empty();
+        }
+
+        String cacheKey = cacheKey(infoDbNo, key);
+        analysisResultLocalCache.put(cacheKey, value);
+
+        return reactiveBytesRedisTemplate.opsForValue()
+                .set(REDIS_KEY_PREFIX + cacheKey, value, analysisCacheProperties.getRedisTtl())
+                .onErrorResume(e -> {
+                    log.warn("분석 결과 Redis 캐시 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 스트리밍 응답을 그대로 흘려보내면서 복사본을 모아 완료 시 캐시에 저장 (크기를 알 수 있고 상한 이하일 때만)
+    public Flux<DataBuffer> tee(String infoDbNo, String key, Flux<DataBuffer> body, long contentLength) {
+        if (contentLength < 0 || contentLength > analysisCacheProperties.getMaxEntrySize().toBytes()) {
+            return body;
+        }
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream((int) contentLength);
+
+        return body
+                .doOnNext(buffer -> {
+                    byte[] chunk = new byte[buffer.readableByteCount()];
+                    int readPosition = buffer.readPosition();
+                    buffer.read(chunk);
+                    buffer.readPosition(readPosition);
+                    copy.write(chunk, 0, chunk.length);
+                })
+                .doOnComplete(() -> put(infoDbNo, key, copy.toByteArray()).subscribe());
+    }
+
+    // 해당 InfoDb 의 캐시를 모든 노드에서 제거
+    public Mono<Void> evictInfoDb(Long infoDbNo) {
+        String prefix = infoDbNo + ":";
+        evictLocal(prefix);
+
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(REDIS_KEY_PREFIX + prefix + "*")
+                .count(500)
+                .build();
+
+        return reactiveBytesRedisTemplate.scan(scanOptions)
+                .buffer(500)
+                .flatMap(keys -> reactiveBytesRedisTemplate.delete(keys.toArray(String[]::new)))
+                .then(reactiveBytesRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, prefix.getBytes(StandardCharsets.UTF_8)))
+                .doOnSuccess(ignored -> log.debug("분석 결과 캐시 무효화 - infoDbNo: {}", infoDbNo))
+                .onErrorResume(e -> {
+                    log.warn("분석 결과 Redis 캐시 무효화 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    void evictLocal(String prefix) {
+        analysisResultLocalCache.asMap().keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+    }
+
+    private String cacheKey(String infoDbNo, String key) {
+        return infoDbNo + ":" + key;
+    }
+}
@@ -0,0 +1,29 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+// 디스크에 저장된 결과 파일과 업스트림 응답 메타데이터
+// path 는 항상 압축 해제된 원본(Range 응답용), 업스트림이 gzip 으로 준 경우 gzipPath 에 압축본도 보관
+@Getter
+@AllArgsConstructor
+public class CachedResultFile {
+    private final String key;
+    private final Path path;
+    private final long size;
+    private final Path gzipPath;
+    private final long gzipSize;
+    // 원본(path) 기준 강한 ETag, If-Range 비교에 사용 (압축본은 응답 시 "-gz" 를 붙인 별도 ETag)
+    private final String etag;
+    private final String lastModified;
+
+    public boolean hasGzip() {
+        return gzipPath != null;
+    }
+
+    public long getTotalSize() {
+        return size + gzipSize;
+    }
+}
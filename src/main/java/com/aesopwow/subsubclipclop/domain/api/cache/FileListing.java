@@ -0,0 +1,75 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// S3 파일 목록 스냅샷 + LastModified 워터마크 (변경되지 않는 객체, 갱신 시 새로 생성)
+@Getter
+public class FileListing {
+    private final List<ApiFileInfoResponseDto> files;
+    // 목록 중 가장 최근 LastModified (없으면 null), 문자열 형식이 섞여도 시각으로 비교
+    private final Instant watermark;
+    private final Instant refreshedAt;
+    private final Instant fullRefreshedAt;
+
+    private FileListing(List<ApiFileInfoResponseDto> files, Instant refreshedAt, Instant fullRefreshedAt) {
+        this.files = List.copyOf(files);
+        this.watermark = files.stream()
+                .map(file -> parseLastModified(file.getLastModified()))
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo)
+                .orElse(null);
+        this.refreshedAt = refreshedAt;
+        this.fullRefreshedAt = fullRefreshedAt;
+    }
+
+    public static FileListing full(List<ApiFileInfoResponseDto> files) {
+        Instant now = Instant.now();
+        return new FileListing(files, now, now);
+    }
+
+    // 워터마크 이후 변경분만 반영 (같은 key 는 새 값으로 교체)
+    public FileListing merge(List<ApiFileInfoResponseDto> delta) {
+        Map<String, ApiFileInfoResponseDto> byKey = new LinkedHashMap<>();
+        files.forEach(file -> byKey.put(file.getKey(), file));
+        delta.forEach(file -> byKey.put(file.getKey(), file));
+        return new FileListing(new ArrayList<>(byKey.values()), Instant.now(), fullRefreshedAt);
+    }
+
+    public boolean isRefreshDue(Duration interval) {
+        return refreshedAt.plus(interval).isBefore(Instant.now());
+    }
+
+    // 삭제된 파일은 변경분 조회로 알 수 없으므로 주기적으로 전체 목록을 다시 받음
+    public boolean isFullRefreshDue(Duration interval) {
+        return fullRefreshedAt.plus(interval).isBefore(Instant.now());
+    }
+
+    // S3 LastModified 는 전달 경로에 따라 ISO-8601("2025-04-29T10:00:00+00:00", 공백 구분 포함) 또는
+    // RFC 1123("Tue, 29 Apr 2025 10:00:00 GMT") 형식으로 오므로 둘 다 해석, 해석할 수 없으면 null
+    static Instant parseLastModified(String lastModified) {
+        if (lastModified == null || lastModified.isBlank()) {
+            return null;
+        }
+        String value = lastModified.trim();
+        try {
+            if (Character.isDigit(value.charAt(0))) {
+                return OffsetDateTime.parse(value.replace(' ', 'T')).toInstant();
+            }
+            return OffsetDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.support.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// (infoDbNo, 분석 유형/대상 컬럼) 별 S3 파일 목록 캐시
+// 캐시된 목록은 바로 반환하고, 갱신 주기가 지나면 백그라운드에서 워터마크 이후 변경분만 받아 병합
+// (세그먼트 목록은 LastModified 가 없어 워터마크가 생기지 않으므로 항상 전체 목록을 다시 받음)
+@Component
+@RequiredArgsConstructor
+public class FileListingCache {
+    public static final String INVALIDATE_CHANNEL = "file-listing:invalidate";
+
+    private static final Logger log = LoggerFactory.getLogger(FileListingCache.class);
+
+    private final Cache<String, FileListing> fileListingLocalCache;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final AnalysisCacheProperties analysisCacheProperties;
+    private final SingleFlight singleFlight;
+
+    // 무효화될 때마다 증가, 목록을 받는 중 무효화되면 받은 목록을 캐시에 남기지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // key 는 모두 ':' 로 끝나서 접두사 무효화 시 다른 key 와 겹치지 않음
+    public static String cohortKey(Long infoDbNo, String analysisType) {
+        return cohortPrefix(infoDbNo) + analysisType + ":";
+    }
+
+    public static String cohortPrefix(Long infoDbNo) {
+        return "cohort:" + infoDbNo + ":";
+    }
+
+    public static String segmentKey(long infoDbNo, String targetColumn) {
+        return segmentPrefix(infoDbNo) + targetColumn + ":";
+    }
+
+    public static String segmentPrefix(long infoDbNo) {
+        return "segment:" + infoDbNo + ":";
+    }
+
+    // lister 는 워터마크(null 이면 전체 목록) 이후 파일 목록을 반환
+    public Mono<List<ApiFileInfoResponseDto>> get(String key, Function<Instant, Mono<List<ApiFileInfoResponseDto>>> lister) {
+        FileListing cached = fileListingLocalCache.getIfPresent(key);
+        if (cached == null) {
+            return loadFull(key, null, lister).map(FileListing::getFiles);
+        }
+
+        if (cached.isFullRefreshDue(analysisCacheProperties.getListingFullRefreshInterval())) {
+            refreshInBackground(key, loadFull(key, cached, lister));
+        } else if (cached.isRefreshDue(analysisCacheProperties.getListingRefreshInterval())) {
+            refreshInBackground(key, loadDelta(key, cached, lister));
+        }
+        return Mono.just(cached.getFiles());
+    }
+
+    // 새 파일이 생성된 경우 모든 노드에서 해당 접두사의 목록 제거
+    // (디스크에 받아둔 결과 파일은 LastModified 버전이 key 에 포함되므로 함께 지우지 않음)
+    public Mono<Void> invalidate(String prefix) {
+        evictLocal(prefix);
+
+        return reactiveBytesRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, prefix.getBytes(StandardCharsets.UTF_8))
+                .onErrorResume(e -> {
+                    log.warn("파일 목록 캐시 무효화 전파 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    void evictLocal(String prefix) {
+        invalidations.incrementAndGet();
+        fileListingLocalCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    // cached: 갱신 전 목록 (캐시 미스면 null), 그 사이 다른 목록으로 바뀌었거나 무효화됐으면 덮어쓰지 않음
+    private Mono<FileListing> loadFull(String key, FileListing cached, Function<Instant, Mono<List<ApiFileInfoResponseDto>>> lister) {
+        return singleFlight.execute("listing:" + key, () -> {
+            long generation = invalidations.get();
+            return lister.apply(null)
+                    .map(FileListing::full)
+                    .doOnNext(listing -> store(key, cached, listing, generation));
+        });
+    }
+
+    private Mono<FileListing> loadDelta(String key, FileListing cached, Function<Instant, Mono<List<ApiFileInfoResponseDto>>> lister) {
+        return singleFlight.execute("listing:" + key, () -> lister.apply(cached.getWatermark())
+                .map(cached::merge)
+                // 갱신 중 무효화된 경우 이전 목록을 되살리지 않음
+                .doOnNext(listing -> fileListingLocalCache.asMap().replace(key, cached, listing)));
+    }
+
+    // 캐시 미스였던 key 는 무효화로 지울 항목이 없으므로, 반영 후 무효화가 있었으면 방금 넣은 목록을 다시 제거
+    private void store(String key, FileListing cached, FileListing listing, long generation) {
+        boolean stored = cached == null
+                ? fileListingLocalCache.asMap().putIfAbsent(key, listing) == null
+                : fileListingLocalCache.asMap().replace(key, cached, listing);
+        if (stored && invalidations.get() != generation) {
+            fileListingLocalCache.asMap().remove(key, listing);
+        }
+    }
+
+    private void refreshInBackground(String key, Mono<FileListing> refresh) {
+        refresh.subscribe(
+                listing -> log.debug("파일 목록 갱신 - key: {}, {}건", key, listing.getFiles().size()),
+                e -> log.warn("파일 목록 백그라운드 갱신 실패 - key: {}, 원인: {}", key, e.getMessage()));
+    }
+}
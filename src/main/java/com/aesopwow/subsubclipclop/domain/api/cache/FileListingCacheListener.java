@@ -0,0 +1,21 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드에서 발행한 파일 목록 무효화 메시지를 받아 로컬 캐시 정리
+@Component
+@RequiredArgsConstructor
+public class FileListingCacheListener implements MessageListener {
+    private final FileListingCache fileListingCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String prefix = new String(message.getBody(), StandardCharsets.UTF_8);
+        fileListingCache.evictLocal(prefix);
+    }
+}
@@ -0,0 +1,33 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+// 캐시 잠금 안에서 미리 열어둔 결과 파일 (응답 중 제거/교체되어도 열린 채널로 끝까지 읽음)
+// 응답을 다 쓰면 반드시 close
+@Getter
+public class OpenResultFile implements Closeable {
+    private final CachedResultFile file;
+    private final FileChannel channel;
+    private final FileChannel gzipChannel;
+
+    OpenResultFile(CachedResultFile file, FileChannel channel, FileChannel gzipChannel) {
+        this.file = file;
+        this.channel = channel;
+        this.gzipChannel = gzipChannel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            if (gzipChannel != null) {
+                gzipChannel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.global.util.CompressionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+// 다운로드한 결과 CSV 를 로컬 디스크에 보관하는 LRU 캐시 (전체 바이트 상한)
+// 파일명은 키의 SHA-256, ETag/Last-Modified/gzip 여부는 .meta 파일에 함께 저장
+@Component
+@RequiredArgsConstructor
+public class ResultFileCache {
+    private static final String DATA_SUFFIX = ".data";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String META_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Logger log = LoggerFactory.getLogger(ResultFileCache.class);
+
+    private final AnalysisCacheProperties analysisCacheProperties;
+
+    // 접근 순서 LinkedHashMap 으로 LRU 유지 (가장 오래 안 쓴 항목이 맨 앞)
+    private final LinkedHashMap<String, CachedResultFile> index = new LinkedHashMap<>(16, 0.75f, true);
+    // 잠금 안에서 파일 I/O 를 하므로 가상 스레드가 고정(pinning)되지 않도록 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalBytes;
+    private Path directory;
+
+    // 재시작 후에도 기존 파일을 재사용하도록 디렉터리를 스캔해 인덱스 복원 (미완성 임시 파일은 삭제)
+    @PostConstruct
+    void init() throws IOException {
+        directory = Path.of(analysisCacheProperties.getFileCacheDirectory());
+        Files.createDirectories(directory);
+
+        List<CachedResultFile> restored = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(META_SUFFIX)) {
+                    readEntry(file).ifPresent(restored::add);
+                }
+            }
+        }
+
+        restored.sort(Comparator.comparing(entry -> lastModifiedTime(entry.getPath())));
+        lock.lock();
+        try {
+            restored.forEach(this::register);
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+        log.info("결과 파일 디스크 캐시 복원: {}개, {} bytes", restored.size(), totalBytes);
+    }
+
+    // cohort 파일은 같은 이름으로 다시 저장될 수 있으므로 목록의 LastModified 를 버전으로 붙임
+    // 새 버전은 다른 key 가 되고 이전 버전은 LRU 로 밀려남, LastModified 를 해석할 수 없으면 null (캐시하지 않음)
+    public static String cohortFileKey(Long infoDbNo, String analysisType, String filename, String lastModified) {
+        Instant version = FileListing.parseLastModified(lastModified);
+        if (version == null) {
+            return null;
+        }
+        return "cohort-file:" + infoDbNo + ":" + analysisType + ":" + filename + "@" + version;
+    }
+
+    // 세그먼트 파일은 생성 시마다 새 S3 key 를 쓰므로 S3 key 만으로 구분
+    public static String segmentFileKey(String s3Key) {
+        return "segment-file:" + s3Key;
+    }
+
+    // 응답에 쓸 파일을 잠금 안에서 열어서 반환, 열린 뒤에는 다른 요청이 제거/교체해도 끝까지 읽을 수 있음
+    // 파일이 이미 지워졌으면 항목을 정리하고 empty (호출하는 쪽은 업스트림으로 요청)
+    public Optional<OpenResultFile> open(String key) {
+        lock.lock();
+        try {
+            CachedResultFile entry = index.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(entry.getPath(), StandardOpenOption.READ);
+                FileChannel gzipChannel = entry.hasGzip()
+                        ? FileChannel.open(entry.getGzipPath(), StandardOpenOption.READ)
+                        : null;
+                return Optional.of(new OpenResultFile(entry, channel, gzipChannel));
+            } catch (IOException e) {
+                if (channel != null) {
+                    closeQuietly(channel, entry.getPath());
+                }
+                if (!(e instanceof NoSuchFileException)) {
+                    log.warn("결과 파일 디스크 캐시 열기 실패: key={}, {}", key, e.getMessage());
+                }
+                remove(key);
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 업스트림 응답을 그대로 흘려보내면서 임시 파일에 기록하고, 끝까지 받으면 원자적으로 옮겨 캐시에 등록
+    // 부분 응답(206)이나 상한보다 큰 응답은 저장하지 않음
+    public ResponseEntity<Flux<DataBuffer>> tee(String key, ResponseEntity<Flux<DataBuffer>> upstream) {
+        HttpHeaders headers = upstream.getHeaders();
+        long contentLength = headers.getContentLength();
+        if (upstream.getStatusCode() != HttpStatus.OK
+                || upstream.getBody() == null
+                || headers.getFirst(HttpHeaders.CONTENT_RANGE) != null
+                || contentLength > analysisCacheProperties.getFileCacheMaxSize().toBytes()) {
+            return upstream;
+        }
+
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        boolean gzip = CompressionUtil.isGzip(headers);
+
+        Flux<DataBuffer> body = Flux.using(
+                () -> {
+                    Path temp = directory.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+                    return new TempFile(temp, AsynchronousFileChannel.open(temp,
+                            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+                },
+                temp -> DataBufferUtils.write(upstream.getBody(), temp.channel)
+                        .doOnComplete(() -> temp.completed = true),
+                temp -> {
+                    closeQuietly(temp);
+                    if (temp.completed) {
+                        Schedulers.boundedElastic().schedule(
+                                () -> commit(key, temp.path, etag, lastModified, gzip));
+                    } else {
+                        deleteQuietly(temp.path);
+                    }
+                });
+
+        return new ResponseEntity<>(body, headers, upstream.getStatusCode());
+    }
+
+    public void evict(String key) {
+        lock.lock();
+        try {
+            remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 업스트림이 gzip 이면 압축본과 함께 풀어둔 원본도 저장 (이벤트 루프를 막지 않도록 boundedElastic 에서 처리)
+    private void commit(String key, Path temp, String etag, String lastModified, boolean gzip) {
+        String base = fileName(key);
+        Path data = directory.resolve(base + DATA_SUFFIX);
+        Path gzipData = directory.resolve(base + GZIP_SUFFIX);
+        Path meta = directory.resolve(base + META_SUFFIX);
+        Path inflated = gzip ? directory.resolve(UUID.randomUUID() + TEMP_SUFFIX) : null;
+        try {
+            if (gzip) {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(temp))) {
+                    Files.copy(in, inflated);
+                }
+            }
+
+            long size = Files.size(gzip ? inflated : temp);
+            long gzipSize = gzip ? Files.size(temp) : 0;
+            if (size + gzipSize > analysisCacheProperties.getFileCacheMaxSize().toBytes()) {
+                deleteQuietly(temp);
+                if (inflated != null) {
+                    deleteQuietly(inflated);
+                }
+                return;
+            }
+
+            // 업스트림 ETag 가 없거나 약한 ETag 면 If-Range 에 쓸 수 있도록 저장본 기준의 강한 ETag 생성
+            // gzip 응답의 ETag 는 압축본 기준이므로 원본 ETag 로 쓰지 않음 (압축본 ETag 는 응답 시 "-gz" 를 붙여 구분)
+            String strongEtag = etag != null && !etag.startsWith("W/") && !gzip
+                    ? etag
+                    : "\"" + base.substring(0, 16) + "-" + Long.toHexString(size) + "-"
+                    + Long.toHexString(System.currentTimeMillis()) + "\"";
+
+            Properties properties = new Properties();
+            properties.setProperty("key", key);
+            properties.setProperty("etag", strongEtag);
+            properties.setProperty("gzip", String.valueOf(gzip));
+            if (lastModified != null) {
+                properties.setProperty("lastModified", lastModified);
+            }
+
+            lock.lock();
+            try {
+                if (gzip) {
+                    Files.move(inflated, data, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temp, gzipData, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.move(temp, data, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    Files.deleteIfExists(gzipData);
+                }
+                try (Writer writer = Files.newBufferedWriter(meta, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                CachedResultFile previous = index.remove(key);
+                if (previous != null) {
+                    totalBytes -= previous.getTotalSize();
+                }
+                register(new CachedResultFile(key, data, size, gzip ? gzipData : null, gzipSize,
+                        strongEtag, lastModified));
+                evictIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            log.warn("결과 파일 디스크 캐시 저장 실패: key={}, {}", key, e.getMessage());
+            deleteQuietly(temp);
+            if (inflated != null) {
+                deleteQuietly(inflated);
+            }
+        }
+    }
+
+    private void register(CachedResultFile entry) {
+        index.put(entry.getKey(), entry);
+        totalBytes += entry.getTotalSize();
+    }
+
+    private void evictIfNeeded() {
+        long maxBytes = analysisCacheProperties.getFileCacheMaxSize().toBytes();
+        Iterator<Map.Entry<String, CachedResultFile>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            CachedResultFile eldest = iterator.next().getValue();
+            iterator.remove();
+            totalBytes -= eldest.getTotalSize();
+            deleteFiles(eldest.getPath());
+        }
+    }
+
+    private void remove(String key) {
+        CachedResultFile entry = index.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.getTotalSize();
+            deleteFiles(entry.getPath());
+        }
+    }
+
+    private Optional<CachedResultFile> readEntry(Path meta) {
+        String metaName = meta.getFileName().toString();
+        String base = metaName.substring(0, metaName.length() - META_SUFFIX.length());
+        Path data = meta.resolveSibling(base + DATA_SUFFIX);
+        Path gzipData = meta.resolveSibling(base + GZIP_SUFFIX);
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            String key = properties.getProperty("key");
+            String etag = properties.getProperty("etag");
+            boolean gzip = Boolean.parseBoolean(properties.getProperty("gzip"));
+            if (key == null || etag == null || !Files.exists(data) || (gzip && !Files.exists(gzipData))) {
+                deleteFiles(data);
+                return Optional.empty();
+            }
+            return Optional.of(new CachedResultFile(key, data, Files.size(data),
+                    gzip ? gzipData : null, gzip ? Files.size(gzipData) : 0,
+                    etag, properties.getProperty("lastModified")));
+        } catch (IOException e) {
+            log.warn("결과 파일 디스크 캐시 메타데이터 읽기 실패: {}", meta, e);
+            deleteFiles(data);
+            return Optional.empty();
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteFiles(Path data) {
+        String dataName = data.getFileName().toString();
+        String base = dataName.substring(0, dataName.length() - DATA_SUFFIX.length());
+        deleteQuietly(data);
+        deleteQuietly(data.resolveSibling(base + GZIP_SUFFIX));
+        deleteQuietly(data.resolveSibling(base + META_SUFFIX));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("결과 파일 디스크 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static void closeQuietly(TempFile temp) {
+        closeQuietly(temp.channel, temp.path);
+    }
+
+    private static void closeQuietly(Channel channel, Path path) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("결과 파일 디스크 캐시 파일 닫기 실패: {}", path, e);
+        }
+    }
+
+    private static final class TempFile {
+        private final Path path;
+        private final AsynchronousFileChannel channel;
+        private volatile boolean completed;
+
+        private TempFile(Path path, AsynchronousFileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+}
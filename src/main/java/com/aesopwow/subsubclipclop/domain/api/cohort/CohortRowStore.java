@@ -0,0 +1,175 @@
+package com.aesopwow.subsubclipclop.domain.api.cohort;
+
+import com.aesopwow.subsubclipclop.config.CohortStoreProperties;
+import com.aesopwow.subsubclipclop.domain.api.csv.CsvParser;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+// Cohort 분석 결과 중 확정된 행(코호트 월이 target_date - horizonMonths 이전)을 Redis 에 보관하고
+// Python 에는 마지막 확정 월(워터마크) 이후 기간만 요청해서 저장된 이력과 합침
+// cohort-rows:{infoDbNo}:{analysisType}:{targetTableUser}:{targetTableSub} -> 헤더 + 확정 행 CSV (코호트 월 오름차순)
+//
+// Python 쪽 start_date 계약
+// - 첫 컬럼은 코호트 월(yyyy-MM 또는 yyyy-MM-dd), start_date 이전 코호트 월의 행은 넣지 않아도 됨 (넣으면 새 값으로 덮어씀)
+// - 나머지 컬럼은 전체 기간 계산과 같은 이름/순서이고, 최근 코호트만 있으면 뒤쪽 기간 컬럼이 빠질 수 있음
+//   (한쪽 헤더가 다른 쪽 헤더의 앞부분이면 긴 헤더 기준으로 합치고 짧은 행의 빈 기간은 빈 값으로 채움)
+// - 컬럼 이름이나 순서가 다르면 형식이 바뀐 것으로 보고 저장된 이력을 버린 뒤 전체 기간을 다시 계산
+@Component
+@RequiredArgsConstructor
+public class CohortRowStore {
+    private static final String KEY_PREFIX = "cohort-rows:";
+
+    private static final Logger log = LoggerFactory.getLogger(CohortRowStore.class);
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final CohortStoreProperties cohortStoreProperties;
+
+    public static String key(Long infoDbNo, String analysisType, String targetTableUser, String targetTableSub) {
+        return infoDbNo + ":" + analysisType + ":" + targetTableUser + ":" + targetTableSub;
+    }
+
+    // fetcher 는 startDate 이후 코호트 월의 행만 계산해서 반환 (null 이면 전체 기간)
+    public Mono<byte[]> compute(String key, LocalDate targetDate, Function<LocalDate, Mono<byte[]>> fetcher) {
+        YearMonth finalUntil = YearMonth.from(targetDate != null ? targetDate : LocalDate.now())
+                .minusMonths(cohortStoreProperties.getHorizonMonths());
+
+        return find(key)
+                .flatMap(stored -> {
+                    YearMonth watermark = stored.rows.lastKey();
+                    // 과거 target_date 로 다시 요청하면 저장된 행이 그 시점 기준으로는 확정이 아니므로 전체 계산
+                    if (watermark.isAfter(finalUntil)) {
+                        return fetcher.apply(null);
+                    }
+                    return fetcher.apply(watermark.plusMonths(1).atDay(1))
+                            .flatMap(delta -> merge(key, stored, delta, finalUntil, fetcher));
+                })
+                .switchIfEmpty(Mono.defer(() -> fetcher.apply(null)
+                        .flatMap(full -> {
+                            CohortRows rows = CohortRows.parse(full);
+                            return rows == null ? Mono.just(full) : save(key, rows, finalUntil).thenReturn(full);
+                        })));
+    }
+
+    private Mono<byte[]> merge(String key, CohortRows stored, byte[] delta, YearMonth finalUntil,
+                               Function<LocalDate, Mono<byte[]>> fetcher) {
+        CohortRows deltaRows = CohortRows.parse(delta);
+        CohortRows result = deltaRows == null ? null : stored.merge(deltaRows);
+        // 응답 형식(헤더)이 바뀌었으면 저장된 이력을 버리고 전체 기간을 다시 계산
+        if (result == null) {
+            log.info("Cohort 확정 행 형식 변경, 전체 재계산: {}", key);
+            return fetcher.apply(null)
+                    .flatMap(full -> {
+                        CohortRows rows = CohortRows.parse(full);
+                        return rows == null ? Mono.just(full) : save(key, rows, finalUntil).thenReturn(full);
+                    });
+        }
+
+        YearMonth mergedFinal = result.rows.floorKey(finalUntil);
+        Mono<Void> saved = mergedFinal != null && mergedFinal.isAfter(stored.rows.lastKey())
+                ? save(key, result, finalUntil)
+                : Mono.empty();
+        return saved.thenReturn(result.toCsv());
+    }
+
+    private Mono<CohortRows> find(String key) {
+        return reactiveBytesRedisTemplate.opsForValue().get(KEY_PREFIX + key)
+                .mapNotNull(CohortRows::parse)
+                .filter(rows -> !rows.rows.isEmpty())
+                .onErrorResume(e -> {
+                    log.warn("Cohort 확정 행 조회 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // finalUntil 이하 코호트 월만 저장
+    private Mono<Void> save(String key, CohortRows rows, YearMonth finalUntil) {
+        NavigableMap<YearMonth, List<String>> finalRows = rows.rows.headMap(finalUntil, true);
+        if (finalRows.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return reactiveBytesRedisTemplate.opsForValue()
+                .set(KEY_PREFIX + key, new CohortRows(rows.header, finalRows).toCsv(), cohortStoreProperties.getTtl())
+                .onErrorResume(e -> {
+                    log.warn("Cohort 확정 행 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 첫 컬럼이 코호트 월(yyyy-MM 또는 yyyy-MM-dd)인 CSV
+    private static final class CohortRows {
+        private final List<String> header;
+        private final NavigableMap<YearMonth, List<String>> rows;
+
+        private CohortRows(List<String> header, NavigableMap<YearMonth, List<String>> rows) {
+            this.header = header;
+            this.rows = rows;
+        }
+
+        // 코호트 월을 읽을 수 없는 형식이면 null (병합/저장하지 않고 응답을 그대로 사용)
+        private static CohortRows parse(byte[] bytes) {
+            List<List<String>> records = CsvParser.parseRecords(bytes);
+            if (records.isEmpty()) {
+                return null;
+            }
+
+            NavigableMap<YearMonth, List<String>> rows = new TreeMap<>();
+            for (List<String> record : records.subList(1, records.size())) {
+                String month = record.get(0).trim();
+                try {
+                    rows.put(YearMonth.parse(month.length() > 7 ? month.substring(0, 7) : month), record);
+                } catch (DateTimeParseException e) {
+                    return null;
+                }
+            }
+            return new CohortRows(records.get(0), rows);
+        }
+
+        // 헤더가 같거나 한쪽이 다른 쪽의 앞부분일 때만 병합 (같은 코호트 월은 delta 행 사용), 아니면 null
+        private CohortRows merge(CohortRows delta) {
+            boolean deltaLonger = delta.header.size() >= header.size();
+            List<String> longer = deltaLonger ? delta.header : header;
+            List<String> shorter = deltaLonger ? header : delta.header;
+            if (!longer.subList(0, shorter.size()).equals(shorter)) {
+                return null;
+            }
+
+            NavigableMap<YearMonth, List<String>> merged = new TreeMap<>();
+            rows.forEach((month, record) -> merged.put(month, pad(record, longer.size())));
+            delta.rows.forEach((month, record) -> merged.put(month, pad(record, longer.size())));
+            return new CohortRows(longer, merged);
+        }
+
+        private static List<String> pad(List<String> record, int size) {
+            if (record.size() >= size) {
+                return record;
+            }
+            List<String> padded = new ArrayList<>(record);
+            while (padded.size() < size) {
+                padded.add("");
+            }
+            return padded;
+        }
+
+        private byte[] toCsv() {
+            List<List<String>> records = new ArrayList<>(rows.size() + 1);
+            records.add(header);
+            records.addAll(rows.values());
+            return CsvParser.write(records);
+        }
+    }
+}
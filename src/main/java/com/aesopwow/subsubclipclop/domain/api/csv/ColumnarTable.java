@@ -0,0 +1,75 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+// 파싱이 끝난 CSV 의 컬럼형 표현 (생성 후 변경되지 않으므로 여러 요청에서 공유)
+public class ColumnarTable {
+    private final int rowCount;
+    private final Map<String, CsvColumn> columns;
+    private final long estimatedBytes;
+
+    ColumnarTable(int rowCount, List<CsvColumn> columns) {
+        this.rowCount = rowCount;
+        Map<String, CsvColumn> byName = new LinkedHashMap<>();
+        long bytes = 0;
+        for (CsvColumn column : columns) {
+            byName.put(column.getName(), column);
+            bytes += column.estimatedBytes();
+        }
+        this.columns = Collections.unmodifiableMap(byName);
+        this.estimatedBytes = bytes;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<String> getColumnNames() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    public CsvColumn getColumn(String name) {
+        return columns.get(name);
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    // 필터를 통과한 행의 인덱스 목록
+    public int[] filter(List<CsvFilter> filters) {
+        IntPredicate predicate = row -> true;
+        for (CsvFilter filter : filters) {
+            predicate = predicate.and(filter.compile(this));
+        }
+
+        int[] matched = new int[rowCount];
+        int count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (predicate.test(row)) {
+                matched[count++] = row;
+            }
+        }
+        return Arrays.copyOf(matched, count);
+    }
+
+    // 지정한 행/컬럼만 잘라서 반환
+    public List<List<Object>> rows(int[] rowIndexes, int offset, int limit, List<CsvColumn> projection) {
+        int end = Math.min(rowIndexes.length, offset + limit);
+        List<List<Object>> rows = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            List<Object> row = new ArrayList<>(projection.size());
+            for (CsvColumn column : projection) {
+                row.add(column.getValue(rowIndexes[i]));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
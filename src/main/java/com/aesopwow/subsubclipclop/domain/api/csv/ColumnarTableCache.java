@@ -0,0 +1,38 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import com.aesopwow.subsubclipclop.domain.api.support.SingleFlight;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+// 파일 key 별로 CSV 를 한 번만 파싱해 보관 (동시 요청은 하나의 파싱을 공유)
+@Component
+@RequiredArgsConstructor
+public class ColumnarTableCache {
+    private final Cache<String, ColumnarTable> columnarTableCache;
+    private final SingleFlight singleFlight;
+
+    public Mono<ColumnarTable> getOrLoad(String fileKey, Supplier<Mono<byte[]>> loader) {
+        ColumnarTable cached = columnarTableCache.getIfPresent(fileKey);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return singleFlight.execute("csv:" + fileKey, () -> loader.get()
+                .publishOn(Schedulers.boundedElastic())
+                .map(bytes -> {
+                    try {
+                        return CsvParser.parse(bytes);
+                    } catch (RuntimeException e) {
+                        throw new CustomException(ErrorCode.CSV_PARSE_FAILURE, e);
+                    }
+                })
+                .doOnNext(table -> columnarTableCache.put(fileKey, table)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+// 컬럼 단위 저장소 (숫자는 primitive 배열, 문자열은 사전 인코딩)
+public interface CsvColumn {
+    String getName();
+
+    CsvColumnType getType();
+
+    // 빈 값은 null
+    Object getValue(int row);
+
+    long estimatedBytes();
+}
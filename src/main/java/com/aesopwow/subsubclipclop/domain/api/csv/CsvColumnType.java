@@ -0,0 +1,5 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+public enum CsvColumnType {
+    LONG, DOUBLE, STRING
+}
@@ -0,0 +1,122 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+// "컬럼:연산자:값" 형식의 행 필터 (연산자: eq, ne, gt, gte, lt, lte, contains)
+@Getter
+public class CsvFilter {
+    private static final Set<String> OPERATORS = Set.of("eq", "ne", "gt", "gte", "lt", "lte", "contains");
+
+    private final String column;
+    private final String operator;
+    private final String value;
+
+    private CsvFilter(String column, String operator, String value) {
+        this.column = column;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    public static CsvFilter parse(String expression) {
+        String[] parts = expression.split(":", 3);
+        if (parts.length != 3) {
+            throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+        }
+        String operator = parts[1].toLowerCase(Locale.ROOT);
+        if (!OPERATORS.contains(operator)) {
+            throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+        }
+        return new CsvFilter(parts[0], operator, parts[2]);
+    }
+
+    IntPredicate compile(ColumnarTable table) {
+        CsvColumn target = table.getColumn(column);
+        if (target == null) {
+            throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+        }
+
+        return switch (target.getType()) {
+            case LONG -> compileLong((LongColumn) target);
+            case DOUBLE -> compileDouble((DoubleColumn) target);
+            case STRING -> compileString((StringColumn) target);
+        };
+    }
+
+    private IntPredicate compileLong(LongColumn target) {
+        if ("contains".equals(operator)) {
+            return row -> !target.isNull(row) && Long.toString(target.get(row)).contains(value);
+        }
+        // 정수 비교는 double 로 바꾸지 않음 (큰 ID 값 정밀도 유지)
+        try {
+            long operand = Long.parseLong(value);
+            return row -> !target.isNull(row) && compare(Long.compare(target.get(row), operand));
+        } catch (NumberFormatException ignored) {
+            // 실수 값과 비교
+        }
+        double operand = parseNumber();
+        return row -> !target.isNull(row) && compare(Double.compare(target.get(row), operand));
+    }
+
+    private IntPredicate compileDouble(DoubleColumn target) {
+        if ("contains".equals(operator)) {
+            return row -> !target.isNull(row) && Double.toString(target.get(row)).contains(value);
+        }
+        double operand = parseNumber();
+        return row -> !target.isNull(row) && compare(Double.compare(target.get(row), operand));
+    }
+
+    // eq/ne 는 사전 인덱스 비교만으로 처리
+    private IntPredicate compileString(StringColumn target) {
+        return switch (operator) {
+            case "eq" -> {
+                int code = target.codeOf(value);
+                yield row -> target.code(row) == code;
+            }
+            case "ne" -> {
+                int code = target.codeOf(value);
+                yield row -> target.code(row) != code;
+            }
+            case "contains" -> {
+                // 사전 항목별로 한 번만 검사
+                boolean[] matches = new boolean[target.dictionary().size()];
+                for (int i = 0; i < matches.length; i++) {
+                    matches[i] = target.dictionary().get(i).contains(value);
+                }
+                yield row -> target.code(row) >= 0 && matches[target.code(row)];
+            }
+            default -> {
+                boolean[] matches = new boolean[target.dictionary().size()];
+                for (int i = 0; i < matches.length; i++) {
+                    matches[i] = compare(target.dictionary().get(i).compareTo(value));
+                }
+                yield row -> target.code(row) >= 0 && matches[target.code(row)];
+            }
+        };
+    }
+
+    private boolean compare(int result) {
+        return switch (operator) {
+            case "eq" -> result == 0;
+            case "ne" -> result != 0;
+            case "gt" -> result > 0;
+            case "gte" -> result >= 0;
+            case "lt" -> result < 0;
+            case "lte" -> result <= 0;
+            default -> throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+        };
+    }
+
+    private double parseNumber() {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Python/S3 에서 내려오는 CSV(UTF-8, 첫 줄 헤더, RFC 4180 따옴표 규칙)를 한 번에 컬럼형으로 변환
+// 컬럼 타입은 값 전체를 보고 결정 (모두 정수 -> LONG, 모두 실수 -> DOUBLE, 그 외 STRING)
+// 앞자리를 0 으로 채운 값("007")과 NaN/Infinity 등 유한한 10진수 표기가 아닌 값은 숫자로 보지 않음
+public final class CsvParser {
+
+    private CsvParser() {
+    }
+
+    public static ColumnarTable parse(byte[] bytes) {
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        // UTF-8 BOM 제거
+        int position = text.startsWith("\uFEFF") ? 1 : 0;
+
+        RecordReader reader = new RecordReader(text, position);
+        List<String> header = reader.next();
+        if (header == null) {
+            return new ColumnarTable(0, List.of());
+        }
+
+        ColumnBuilder[] builders = new ColumnBuilder[header.size()];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new ColumnBuilder(header.get(i).trim());
+        }
+
+        int rowCount = 0;
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            // 빈 줄은 건너뜀
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < builders.length; i++) {
+                builders[i].add(i < record.size() ? record.get(i) : "");
+            }
+            rowCount++;
+        }
+
+        List<CsvColumn> columns = new ArrayList<>(builders.length);
+        for (ColumnBuilder builder : builders) {
+            columns.add(builder.build(rowCount));
+        }
+        return new ColumnarTable(rowCount, columns);
+    }
+
+    // 타입 변환 없이 레코드(문자열 목록) 단위로 반환, 첫 레코드는 헤더 (빈 줄 제외)
+    public static List<List<String>> parseRecords(byte[] bytes) {
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        int position = text.startsWith("\uFEFF") ? 1 : 0;
+
+        RecordReader reader = new RecordReader(text, position);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    // 레코드 목록을 CSV 로 직렬화 (쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감쌈)
+    public static byte[] write(List<List<String>> records) {
+        StringBuilder out = new StringBuilder();
+        for (List<String> record : records) {
+            for (int i = 0; i < record.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                String value = record.get(i);
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    out.append('"').append(value.replace("\"", "\"\"")).append('"');
+                } else {
+                    out.append(value);
+                }
+            }
+            out.append('\n');
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordReader {
+        private final String text;
+        private int position;
+
+        RecordReader(String text, int position) {
+            this.text = text;
+            this.position = position;
+        }
+
+        List<String> next() {
+            if (position >= text.length()) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (quoted) {
+                    if (c == '"') {
+                        if (position < text.length() && text.charAt(position) == '"') {
+                            field.append('"');
+                            position++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r' && position < text.length() && text.charAt(position) == '\n') {
+                        position++;
+                    }
+                    break;
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    private static final class ColumnBuilder {
+        private final String name;
+        private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] codes = new int[1024];
+        private long[] longs = new long[1024];
+        private double[] doubles = new double[1024];
+        private final BitSet nulls = new BitSet();
+        private boolean allLong = true;
+        private boolean allDouble = true;
+        private int size;
+
+        ColumnBuilder(String name) {
+            this.name = name;
+        }
+
+        void add(String raw) {
+            if (size == codes.length) {
+                int capacity = size * 2;
+                codes = Arrays.copyOf(codes, capacity);
+                if (allLong) {
+                    longs = Arrays.copyOf(longs, capacity);
+                }
+                if (allDouble) {
+                    doubles = Arrays.copyOf(doubles, capacity);
+                }
+            }
+
+            String value = raw.trim();
+            if (value.isEmpty()) {
+                nulls.set(size);
+                codes[size] = -1;
+                if (allDouble) {
+                    doubles[size] = Double.NaN;
+                }
+                size++;
+                return;
+            }
+
+            codes[size] = dictionaryIndex.computeIfAbsent(value, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+
+            if ((allLong || allDouble) && !isPlainNumber(value)) {
+                notLong();
+                notDouble();
+            }
+            if (allLong) {
+                try {
+                    longs[size] = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    notLong();
+                }
+            }
+            if (allDouble) {
+                try {
+                    double parsed = Double.parseDouble(value);
+                    // 범위를 넘는 지수 표기("1e400")는 Infinity 가 되므로 제외
+                    if (Double.isFinite(parsed)) {
+                        doubles[size] = parsed;
+                    } else {
+                        notDouble();
+                    }
+                } catch (NumberFormatException e) {
+                    notDouble();
+                }
+            }
+            size++;
+        }
+
+        private void notLong() {
+            allLong = false;
+            longs = null;
+        }
+
+        private void notDouble() {
+            allDouble = false;
+            doubles = null;
+        }
+
+        // 부호, 숫자, 소수점, 지수만으로 된 값 (Double.parseDouble 이 받아들이는 NaN, Infinity, 16진수, f/d 접미사 제외)
+        // 앞자리를 0 으로 채운 값은 우편번호/코드 등이라 숫자로 바꾸면 0 이 사라지므로 제외 ("0", "0.5" 는 숫자)
+        private static boolean isPlainNumber(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if ((c < '0' || c > '9') && c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                    return false;
+                }
+            }
+            int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+            return !(value.length() > start + 1 && value.charAt(start) == '0'
+                    && Character.isDigit(value.charAt(start + 1)));
+        }
+
+        CsvColumn build(int rowCount) {
+            if (allLong && dictionary.size() > 0) {
+                return new LongColumn(name, Arrays.copyOf(longs, rowCount), nulls);
+            }
+            if (allDouble && dictionary.size() > 0) {
+                return new DoubleColumn(name, Arrays.copyOf(doubles, rowCount));
+            }
+            return new StringColumn(name, Arrays.copyOf(codes, rowCount), List.copyOf(dictionary));
+        }
+    }
+}
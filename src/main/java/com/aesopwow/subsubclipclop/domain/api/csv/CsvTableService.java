@@ -0,0 +1,69 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import com.aesopwow.subsubclipclop.domain.api.dto.CsvPageResponseDto;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 분석 결과 CSV 를 서버에서 파싱해 필요한 구간(행/컬럼)만 JSON 으로 반환
+@Service
+@RequiredArgsConstructor
+public class CsvTableService {
+    private static final int MAX_LIMIT = 1000;
+
+    private final ColumnarTableCache columnarTableCache;
+
+    public Mono<CsvPageResponseDto> getPage(String fileKey,
+                                            Supplier<Mono<byte[]>> loader,
+                                            int offset,
+                                            int limit,
+                                            List<String> columns,
+                                            List<String> filters) {
+        if (offset < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_CSV_QUERY));
+        }
+
+        List<CsvFilter> parsedFilters;
+        try {
+            parsedFilters = filters == null ? List.of() : filters.stream().map(CsvFilter::parse).toList();
+        } catch (CustomException e) {
+            return Mono.error(e);
+        }
+
+        return columnarTableCache.getOrLoad(fileKey, loader)
+                .map(table -> slice(table, offset, limit, columns, parsedFilters));
+    }
+
+    private CsvPageResponseDto slice(ColumnarTable table, int offset, int limit,
+                                     List<String> columns, List<CsvFilter> filters) {
+        List<String> names = columns == null || columns.isEmpty() ? table.getColumnNames() : columns;
+
+        List<CsvColumn> projection = new ArrayList<>(names.size());
+        List<String> types = new ArrayList<>(names.size());
+        for (String name : names) {
+            CsvColumn column = table.getColumn(name);
+            if (column == null) {
+                throw new CustomException(ErrorCode.INVALID_CSV_QUERY);
+            }
+            projection.add(column);
+            types.add(column.getType().name());
+        }
+
+        int[] matched = table.filter(filters);
+
+        return new CsvPageResponseDto(
+                names,
+                types,
+                table.getRowCount(),
+                matched.length,
+                offset,
+                limit,
+                table.rows(matched, offset, limit, projection));
+    }
+}
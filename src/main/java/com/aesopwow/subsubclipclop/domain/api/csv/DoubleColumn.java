@@ -0,0 +1,40 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+// 빈 값은 NaN 으로 저장
+final class DoubleColumn implements CsvColumn {
+    private final String name;
+    private final double[] values;
+
+    DoubleColumn(String name, double[] values) {
+        this.name = name;
+        this.values = values;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CsvColumnType getType() {
+        return CsvColumnType.DOUBLE;
+    }
+
+    @Override
+    public Object getValue(int row) {
+        return Double.isNaN(values[row]) ? null : values[row];
+    }
+
+    boolean isNull(int row) {
+        return Double.isNaN(values[row]);
+    }
+
+    double get(int row) {
+        return values[row];
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return (long) values.length * Double.BYTES;
+    }
+}
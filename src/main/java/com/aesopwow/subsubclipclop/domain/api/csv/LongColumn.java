@@ -0,0 +1,43 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import java.util.BitSet;
+
+final class LongColumn implements CsvColumn {
+    private final String name;
+    private final long[] values;
+    private final BitSet nulls;
+
+    LongColumn(String name, long[] values, BitSet nulls) {
+        this.name = name;
+        this.values = values;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CsvColumnType getType() {
+        return CsvColumnType.LONG;
+    }
+
+    @Override
+    public Object getValue(int row) {
+        return nulls.get(row) ? null : values[row];
+    }
+
+    boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    long get(int row) {
+        return values[row];
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return (long) values.length * Long.BYTES + nulls.size() / 8;
+    }
+}
@@ -0,0 +1,55 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import java.util.List;
+
+// 사전 인코딩 문자열 컬럼 (행마다 사전 인덱스만 저장, 빈 값은 -1)
+final class StringColumn implements CsvColumn {
+    private final String name;
+    private final int[] codes;
+    private final List<String> dictionary;
+
+    StringColumn(String name, int[] codes, List<String> dictionary) {
+        this.name = name;
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CsvColumnType getType() {
+        return CsvColumnType.STRING;
+    }
+
+    @Override
+    public Object getValue(int row) {
+        int code = codes[row];
+        return code < 0 ? null : dictionary.get(code);
+    }
+
+    int code(int row) {
+        return codes[row];
+    }
+
+    // 사전에 없는 값이면 -2 (어떤 행과도 일치하지 않음)
+    int codeOf(String value) {
+        int code = dictionary.indexOf(value);
+        return code < 0 ? -2 : code;
+    }
+
+    List<String> dictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        long bytes = (long) codes.length * Integer.BYTES;
+        for (String value : dictionary) {
+            bytes += 40 + value.length() * 2L;
+        }
+        return bytes;
+    }
+}
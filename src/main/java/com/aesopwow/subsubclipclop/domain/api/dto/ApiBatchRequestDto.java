@@ -0,0 +1,21 @@
+package com.aesopwow.subsubclipclop.domain.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiBatchRequestDto {
+    @Builder.Default
+    private List<ApiCohortRequestDto> cohorts = new ArrayList<>();
+
+    @Builder.Default
+    private List<ApiShapRequestDto> shaps = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package com.aesopwow.subsubclipclop.domain.api.dto;
+
+import com.aesopwow.subsubclipclop.domain.api.enums.InsightStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기 인사이트 요청 응답 (PENDING 이면 완료 시 알람 SSE 로 통지)
+@Getter
+@AllArgsConstructor
+public class ApiInsightStatusResponseDto {
+    private String filename;
+    private InsightStatus status;
+    private ApiInsightResponseDto insight;
+}
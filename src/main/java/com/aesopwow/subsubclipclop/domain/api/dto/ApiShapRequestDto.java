@@ -0,0 +1,20 @@
+package com.aesopwow.subsubclipclop.domain.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiShapRequestDto {
+    private String infoDbNo;
+    private String originTable;
+    // keyword/filters 가 없으면 전체 SHAP 분석
+    private String keyword;
+    private Map<String, Object> filters;
+}
@@ -0,0 +1,22 @@
+package com.aesopwow.subsubclipclop.domain.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvPageResponseDto {
+    private List<String> columns;
+    private List<String> types;
+    // 필터 적용 전 전체 행 수
+    private int totalRows;
+    // 필터 적용 후 행 수
+    private int matchedRows;
+    private int offset;
+    private int limit;
+    private List<List<Object>> rows;
+}
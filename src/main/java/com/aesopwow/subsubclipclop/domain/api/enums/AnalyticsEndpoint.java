@@ -0,0 +1,6 @@
+package com.aesopwow.subsubclipclop.domain.api.enums;
+
+// Python 분석 서버 엔드포인트 그룹 (타임아웃 등 엔드포인트별 설정 단위)
+public enum AnalyticsEndpoint {
+    INFO, ANALYSIS, DASHBOARD, COHORT, SHAP, INSIGHT, SEGMENT
+}
@@ -0,0 +1,6 @@
+package com.aesopwow.subsubclipclop.domain.api.enums;
+
+public enum InsightStatus {
+    READY,
+    PENDING
+}
@@ -0,0 +1,93 @@
+package com.aesopwow.subsubclipclop.domain.api.insight;
+
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// 결과 파일별 인사이트 Redis 저장소 (결과 파일의 인사이트는 바뀌지 않으므로 한 번만 생성)
+// insight:{filename}          -> 인사이트 JSON
+// insight:pending:{filename}  -> 생성 중 잠금 (노드 간 중복 호출 방지)
+// insight:waiters:{filename}  -> 완료 시 알람을 받을 userNo 집합
+@Repository
+@RequiredArgsConstructor
+public class InsightRepository {
+    private static final String KEY_PREFIX = "insight:";
+    private static final String PENDING_KEY_PREFIX = "insight:pending:";
+    private static final String WAITERS_KEY_PREFIX = "insight:waiters:";
+    private static final long MAX_WAITERS = 10_000;
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnalysisCacheProperties analysisCacheProperties;
+
+    public Mono<ApiInsightResponseDto> find(String filename) {
+        return reactiveBytesRedisTemplate.opsForValue().get(KEY_PREFIX + filename)
+                .map(this::decode);
+    }
+
+    public Mono<Void> save(String filename, ApiInsightResponseDto insight) {
+        return reactiveBytesRedisTemplate.opsForValue()
+                .set(KEY_PREFIX + filename, encode(insight), analysisCacheProperties.getInsightTtl())
+                .then();
+    }
+
+    public Mono<Boolean> tryLock(String filename, Duration lockTime) {
+        return reactiveBytesRedisTemplate.opsForValue()
+                .setIfAbsent(PENDING_KEY_PREFIX + filename, new byte[0], lockTime);
+    }
+
+    public Mono<Void> unlock(String filename) {
+        return reactiveBytesRedisTemplate.delete(PENDING_KEY_PREFIX + filename).then();
+    }
+
+    public Mono<Void> addWaiter(String filename, Long userNo, Duration ttl) {
+        String key = WAITERS_KEY_PREFIX + filename;
+        return reactiveBytesRedisTemplate.opsForSet()
+                .add(key, String.valueOf(userNo).getBytes(StandardCharsets.UTF_8))
+                .then(reactiveBytesRedisTemplate.expire(key, ttl))
+                .then();
+    }
+
+    public Mono<Void> removeWaiter(String filename, Long userNo) {
+        return reactiveBytesRedisTemplate.opsForSet()
+                .remove(WAITERS_KEY_PREFIX + filename, String.valueOf(userNo).getBytes(StandardCharsets.UTF_8))
+                .then();
+    }
+
+    public Mono<Boolean> isLocked(String filename) {
+        return reactiveBytesRedisTemplate.hasKey(PENDING_KEY_PREFIX + filename);
+    }
+
+    // 대기 중인 userNo 를 SPOP 으로 꺼냄 (동시에 추가된 대기자를 지우지 않도록 원자적으로 제거)
+    public Flux<Long> popWaiters(String filename) {
+        return reactiveBytesRedisTemplate.opsForSet().pop(WAITERS_KEY_PREFIX + filename, MAX_WAITERS)
+                .map(member -> Long.valueOf(new String(member, StandardCharsets.UTF_8)));
+    }
+
+    private byte[] encode(ApiInsightResponseDto insight) {
+        try {
+            return objectMapper.writeValueAsBytes(insight);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ApiInsightResponseDto decode(byte[] value) {
+        try {
+            return objectMapper.readValue(value, ApiInsightResponseDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
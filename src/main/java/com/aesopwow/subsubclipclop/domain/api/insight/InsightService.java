@@ -0,0 +1,120 @@
+package com.aesopwow.subsubclipclop.domain.api.insight;
+
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import com.aesopwow.subsubclipclop.domain.alarm.service.AlarmService;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightStatusResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import com.aesopwow.subsubclipclop.domain.api.enums.InsightStatus;
+import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
+import com.aesopwow.subsubclipclop.domain.api.support.SingleFlight;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+// 결과 파일별 인사이트를 한 번만 생성해서 Redis 에 보관
+// 저장소 -> 노드 내 single-flight -> Redis 잠금 순으로 OpenAI 분석 호출을 파일당 한 번으로 제한
+@Service
+@RequiredArgsConstructor
+public class InsightService {
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Logger log = LoggerFactory.getLogger(InsightService.class);
+
+    private final ApiService apiService;
+    private final InsightRepository insightRepository;
+    private final SingleFlight singleFlight;
+    private final AlarmService alarmService;
+    private final AnalyticsApiProperties analyticsApiProperties;
+
+    // 완료될 때까지 기다려서 반환 (기존 GET 동작)
+    public Mono<ApiInsightResponseDto> getInsight(String filename) {
+        return insightRepository.find(filename)
+                .switchIfEmpty(Mono.defer(() -> singleFlight.execute("insight:" + filename,
+                        () -> generate(filename))));
+    }
+
+    // 저장된 인사이트가 있으면 바로 반환하고, 없으면 백그라운드로 생성 후 완료 시 알람 SSE 로 통지
+    public Mono<ApiInsightStatusResponseDto> requestInsight(String filename, Long userNo) {
+        return insightRepository.find(filename)
+                .map(insight -> new ApiInsightStatusResponseDto(filename, InsightStatus.READY, insight))
+                .switchIfEmpty(Mono.defer(() -> {
+                    if (userNo == null) {
+                        return startGeneration(filename);
+                    }
+                    // 대기자 등록 후 저장소를 다시 확인
+                    // (처음 조회와 등록 사이에 생성이 끝나 대기자를 이미 꺼냈다면 알람이 오지 않으므로 바로 반환)
+                    return insightRepository.addWaiter(filename, userNo, lockTime())
+                            .then(insightRepository.find(filename))
+                            .flatMap(insight -> insightRepository.removeWaiter(filename, userNo)
+                                    .thenReturn(new ApiInsightStatusResponseDto(filename, InsightStatus.READY, insight)))
+                            .switchIfEmpty(Mono.defer(() -> startGeneration(filename)));
+                }));
+    }
+
+    private Mono<ApiInsightStatusResponseDto> startGeneration(String filename) {
+        return Mono.fromRunnable(() -> getInsight(filename).subscribe(
+                        insight -> { },
+                        e -> log.warn("인사이트 생성 실패: {}, {}", filename, e.getMessage())))
+                .thenReturn(new ApiInsightStatusResponseDto(filename, InsightStatus.PENDING, null));
+    }
+
+    private Mono<ApiInsightResponseDto> generate(String filename) {
+        return insightRepository.tryLock(filename, lockTime())
+                .flatMap(locked -> locked ? generateLocked(filename) : awaitOtherNode(filename));
+    }
+
+    private Mono<ApiInsightResponseDto> generateLocked(String filename) {
+        // 잠금을 얻기 직전에 다른 노드가 완료했을 수 있으므로 다시 확인
+        return insightRepository.find(filename)
+                .switchIfEmpty(Mono.defer(() -> apiService.getInsightByFilename(filename)
+                        .flatMap(insight -> insightRepository.save(filename, insight).thenReturn(insight))))
+                .flatMap(insight -> insightRepository.unlock(filename)
+                        .then(notifyWaiters(filename, "인사이트 분석이 완료되었습니다: " + filename))
+                        .thenReturn(insight))
+                .onErrorResume(e -> insightRepository.unlock(filename)
+                        .then(notifyWaiters(filename, "인사이트 분석에 실패했습니다: " + filename))
+                        .then(Mono.error(e)));
+    }
+
+    // 다른 노드가 생성 중이면 저장될 때까지 대기 (그 노드가 실패해 잠금이 풀리면 바로 실패)
+    private Mono<ApiInsightResponseDto> awaitOtherNode(String filename) {
+        long maxPolls = lockTime().dividedBy(POLL_INTERVAL);
+
+        return insightRepository.find(filename)
+                .switchIfEmpty(insightRepository.isLocked(filename)
+                        .flatMap(locked -> locked
+                                ? Mono.<ApiInsightResponseDto>empty()
+                                : Mono.error(new CustomException(ErrorCode.ANALYSIS_API_CALL_FAILURE))))
+                .repeatWhenEmpty(repeats -> repeats.take(maxPolls).delayElements(POLL_INTERVAL))
+                .switchIfEmpty(Mono.error(new CustomException(ErrorCode.ANALYSIS_API_BUSY)));
+    }
+
+    // AlarmService 는 JPA 를 쓰므로 boundedElastic 에서 호출
+    private Mono<Void> notifyWaiters(String filename, String content) {
+        return insightRepository.popWaiters(filename)
+                .flatMap(userNo -> Mono.fromRunnable(() -> alarmService.sendAlarm(userNo, content))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("인사이트 알람 전송 실패: userNo={}, {}", userNo, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .onErrorResume(e -> {
+                    log.warn("인사이트 대기자 조회 실패: {}, {}", filename, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 업스트림 타임아웃보다 조금 길게 잡아 생성 중 잠금이 먼저 풀리지 않도록 함
+    private Duration lockTime() {
+        return analyticsApiProperties.getTimeout(AnalyticsEndpoint.INSIGHT).plusSeconds(30);
+    }
+}
@@ -0,0 +1,144 @@
+package com.aesopwow.subsubclipclop.domain.api.service;
+
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import com.aesopwow.subsubclipclop.domain.analysis.service.AnalysisService;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiBatchRequestDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiCohortRequestDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiShapRequestDto;
+import com.aesopwow.subsubclipclop.entity.Analysis;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 여러 Cohort/SHAP 분석을 한 번의 요청으로 받아 중복 제거 후 제한된 병렬도로 실행하고 ZIP 으로 스트리밍
+@Service
+@RequiredArgsConstructor
+public class AnalysisBatchService {
+    private static final Logger log = LoggerFactory.getLogger(AnalysisBatchService.class);
+
+    private final ApiService apiService;
+    private final AnalysisService analysisService;
+    private final AnalyticsApiProperties analyticsApiProperties;
+
+    // 검증과 분석 번호 조회는 응답을 쓰기 전에 끝내서 잘못된 요청은 바로 4xx 로 응답
+    public StreamingResponseBody zip(ApiBatchRequestDto apiBatchRequestDto) {
+        List<BatchItem> items = plan(apiBatchRequestDto);
+
+        return outputStream -> {
+            // 끝나는 순서대로 ZIP 엔트리를 기록, 실패한 항목은 <이름>.error.txt 로 남기고 나머지는 계속 진행
+            Flux<BatchResult> results = Flux.fromIterable(items)
+                    .flatMap(item -> item.call.get()
+                                    .map(bytes -> new BatchResult(item.name, bytes, null))
+                                    .onErrorResume(e -> {
+                                        log.warn("일괄 분석 항목 실패: {}, {}", item.name, e.getMessage());
+                                        return Mono.just(new BatchResult(item.name, null, e.getMessage()));
+                                    }),
+                            analyticsApiProperties.getBatch().getParallelism());
+
+            // 클라이언트 연결이 끊기면 Stream close 로 남은 호출을 취소
+            try (Stream<BatchResult> stream = results.toStream(1);
+                 ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+                Iterator<BatchResult> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    BatchResult result = iterator.next();
+                    if (result.bytes != null) {
+                        zip.putNextEntry(new ZipEntry(result.name + ".csv"));
+                        zip.write(result.bytes);
+                    } else {
+                        zip.putNextEntry(new ZipEntry(result.name + ".error.txt"));
+                        zip.write(String.valueOf(result.error).getBytes(StandardCharsets.UTF_8));
+                    }
+                    zip.closeEntry();
+                }
+            }
+        };
+    }
+
+    private List<BatchItem> plan(ApiBatchRequestDto apiBatchRequestDto) {
+        List<ApiCohortRequestDto> cohorts = apiBatchRequestDto.getCohorts() == null
+                ? List.of() : apiBatchRequestDto.getCohorts();
+        List<ApiShapRequestDto> shaps = apiBatchRequestDto.getShaps() == null
+                ? List.of() : apiBatchRequestDto.getShaps();
+
+        // filename 은 요청 파라미터가 아니므로 중복 판단에서 제외
+        Map<List<Object>, ApiCohortRequestDto> uniqueCohorts = new LinkedHashMap<>();
+        cohorts.stream().filter(Objects::nonNull).forEach(cohort -> uniqueCohorts.putIfAbsent(
+                List.of(String.valueOf(cohort.getInfoDbNo()), String.valueOf(cohort.getAnalysisNo()),
+                        String.valueOf(cohort.getTargetTableUser()), String.valueOf(cohort.getTargetTableSub()),
+                        String.valueOf(cohort.getTargetDate())),
+                cohort));
+        Set<ApiShapRequestDto> uniqueShaps = new LinkedHashSet<>();
+        shaps.stream().filter(Objects::nonNull).forEach(uniqueShaps::add);
+
+        int size = uniqueCohorts.size() + uniqueShaps.size();
+        if (size == 0 || size > analyticsApiProperties.getBatch().getMaxItems()) {
+            throw new CustomException(ErrorCode.INVALID_BATCH_REQUEST);
+        }
+
+        List<BatchItem> items = new ArrayList<>(size);
+        int index = 1;
+        for (ApiCohortRequestDto cohort : uniqueCohorts.values()) {
+            Analysis analysis = analysisService.getAnalysisByNo(cohort.getAnalysisNo());
+            if (analysis == null)
+                throw new IllegalArgumentException("잘못된 analysis 번호입니다.");
+
+            String name = entryName("cohort", index++, analysis.getName().split("-")[1],
+                    String.valueOf(cohort.getTargetDate()));
+            items.add(new BatchItem(name, () -> apiService.requestCohortAnalysis(cohort, analysis)));
+        }
+        for (ApiShapRequestDto shap : uniqueShaps) {
+            boolean full = shap.getKeyword() == null && (shap.getFilters() == null || shap.getFilters().isEmpty());
+            String name = full
+                    ? entryName("shap", index++, shap.getOriginTable())
+                    : entryName("shap", index++, shap.getOriginTable(), String.valueOf(shap.getKeyword()));
+            items.add(new BatchItem(name, full
+                    ? () -> apiService.getFullShapResult(shap.getInfoDbNo(), shap.getOriginTable())
+                    : () -> apiService.getFilteredShapResult(shap.getInfoDbNo(), shap.getOriginTable(),
+                            shap.getKeyword(), shap.getFilters() == null ? Map.of() : shap.getFilters())));
+        }
+        return items;
+    }
+
+    // ZIP 엔트리 이름에 쓸 수 없는 문자는 '_' 로 치환
+    private static String entryName(String type, int index, String... parts) {
+        StringBuilder name = new StringBuilder(type).append('-').append(index);
+        for (String part : parts) {
+            name.append('-').append(part.replaceAll("[^A-Za-z0-9._-]", "_"));
+        }
+        return name.toString();
+    }
+
+    @AllArgsConstructor
+    private static class BatchItem {
+        private final String name;
+        private final Supplier<Mono<byte[]>> call;
+    }
+
+    @AllArgsConstructor
+    private static class BatchResult {
+        private final String name;
+        private final byte[] bytes;
+        private final String error;
+    }
+}
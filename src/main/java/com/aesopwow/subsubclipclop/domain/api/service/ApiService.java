@@ -1,40 +1,55 @@
 package com.aesopwow.subsubclipclop.domain.api.service;
 
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiCohortRequestDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightResponseDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiRequestDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiResponseDto;
 import com.aesopwow.subsubclipclop.domain.info_column.dto.InfoColumnResponseDto;
 import com.aesopwow.subsubclipclop.entity.Analysis;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
 
 public interface ApiService {
-    public String callExternalApi(Long company_no);
+    public Mono<String> callExternalApi(Long company_no);
 
-    public List<InfoColumnResponseDto> callExternalApiInfoColumns(Long infoDbNo, String originTable);
+    public Mono<List<InfoColumnResponseDto>> callExternalApiInfoColumns(Long infoDbNo, String originTable);
 
-    public ApiResponseDto requestAnalysis(ApiRequestDto apiRequestDto);
+    public Mono<ApiResponseDto> requestAnalysis(ApiRequestDto apiRequestDto);
 
 //    public byte[] getAnalysisResult(String filename);
 
     public Mono<byte[]> getAnalysisResult(int infoDbNo, String user_info, String user_sub_info);
 
-    public byte[] getSingleAnalysisResult(String infoDbNo, String originTable, String clusterType);
+    public Mono<byte[]> getSingleAnalysisResult(String infoDbNo, String originTable, String clusterType);
 
-    public byte[] getDoubleAnalysisResult(String infoDbNo, String originTable, String firstClusterType, String secondClusterType);
+    public Mono<byte[]> getDoubleAnalysisResult(String infoDbNo, String originTable, String firstClusterType, String secondClusterType);
 
-    public byte[] getFullShapResult(String infoDbNo, String originTable);
+    public Mono<byte[]> getFullShapResult(String infoDbNo, String originTable);
 
-    public byte[] getFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters);
+    public Mono<byte[]> getFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters);
 
-    public byte[] getCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename);
+    public Mono<byte[]> getCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename);
 
-    public Map<String, Object> getCohortListAnalysis(Long infoDbNo, Analysis analysis);
+    public Mono<List<ApiFileInfoResponseDto>> getCohortListAnalysis(Long infoDbNo, Analysis analysis);
 
-    public byte[] requestCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis);
+    public Mono<ApiFileInfoResponseDto> findCohortFile(Long infoDbNo, Analysis analysis, String filename);
 
-    public ApiInsightResponseDto getInsightByFilename(String filename);
+    public Mono<byte[]> requestCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis);
+
+    public Mono<ApiInsightResponseDto> getInsightByFilename(String filename);
+
+    // 대용량 CSV 결과를 byte[] 로 모으지 않고 DataBuffer 스트림으로 전달하는 스트리밍 모드
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamFullShapResult(String infoDbNo, String originTable);
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters);
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename, String range, String ifRange);
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis);
 }
@@ -1,50 +1,82 @@
 package com.aesopwow.subsubclipclop.domain.api.service;
 
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import com.aesopwow.subsubclipclop.domain.api.cache.AnalysisResultCache;
+import com.aesopwow.subsubclipclop.domain.api.cache.FileListingCache;
+import com.aesopwow.subsubclipclop.domain.api.cohort.CohortRowStore;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiCohortRequestDto;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiInsightResponseDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiRequestDto;
 import com.aesopwow.subsubclipclop.domain.api.dto.ApiResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import com.aesopwow.subsubclipclop.domain.api.support.AnalyticsCallGuard;
+import com.aesopwow.subsubclipclop.domain.api.support.SingleFlight;
 import com.aesopwow.subsubclipclop.domain.info_column.dto.InfoColumnResponseDto;
 import com.aesopwow.subsubclipclop.entity.Analysis;
 import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
 import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import com.aesopwow.subsubclipclop.global.util.CompressionUtil;
+import com.aesopwow.subsubclipclop.global.util.StreamingResponseUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 public class ApiServiceImpl implements ApiService {
 
-    private final WebClient webClient = WebClient.create("http://15.164.211.80:5001");
+    private final WebClient webClient;
+    private final AnalyticsApiProperties analyticsApiProperties;
+    private final AnalysisCacheProperties analysisCacheProperties;
+    private final AnalysisResultCache analysisResultCache;
+    private final FileListingCache fileListingCache;
+    private final SingleFlight singleFlight;
+    private final AnalyticsCallGuard callGuard;
+    private final CohortRowStore cohortRowStore;
 
     private static final Logger log = LoggerFactory.getLogger(ApiServiceImpl.class);
 
+    // 업스트림이 gzip 으로 준 결과는 원본과 다른 key 로 캐시
+    private static final String GZIP_CACHE_SUFFIX = ":gzip";
+
     @Override
-    public String callExternalApi(Long companyNo) {
-        return webClient.get()
+    public Mono<String> callExternalApi(Long companyNo) {
+        return callGuard.guard(AnalyticsEndpoint.INFO, webClient.get()
                 .uri("/python-api/info_db")
                 .attribute("company_no", companyNo)
                 .retrieve()
                 .bodyToMono(String.class)
-                .block(); // 동기 방식으로 결과 대기
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.INFO)));
     }
 
     @Override
-    public List<InfoColumnResponseDto> callExternalApiInfoColumns(Long infoDbNo, String originTable) {
-        return webClient.get()
+    public Mono<List<InfoColumnResponseDto>> callExternalApiInfoColumns(Long infoDbNo, String originTable) {
+        return callGuard.guard(AnalyticsEndpoint.INFO, webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/python-api/info_column")
                         .queryParam("info_db_no", infoDbNo)
@@ -54,18 +86,22 @@ public class ApiServiceImpl implements ApiService {
                 .retrieve()
                 .bodyToFlux(InfoColumnResponseDto.class) // JSON 배열 -> List
                 .collectList()
-                .block(); // 동기 방식으로 결과 대기
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.INFO)));
     }
 
     @Override
-    public ApiResponseDto requestAnalysis(ApiRequestDto apiRequestDto) {
-        return webClient.post()
+    public Mono<ApiResponseDto> requestAnalysis(ApiRequestDto apiRequestDto) {
+        return callGuard.guard(AnalyticsEndpoint.ANALYSIS, webClient.post()
                 .uri("/python-api/analysis")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(apiRequestDto)
                 .retrieve()
                 .bodyToMono(ApiResponseDto.class)
-                .block();
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.ANALYSIS)))
+                // 새 분석이 끝나면 해당 InfoDb 의 이전 분석 결과 캐시는 무효화
+                .flatMap(response -> analysisResultCache.evictInfoDb(apiRequestDto.getInfoDbNo())
+                        .then(fileListingCache.invalidate(FileListingCache.cohortPrefix(apiRequestDto.getInfoDbNo())))
+                        .thenReturn(response));
     }
 
 //    @Override
@@ -82,8 +118,6 @@ public class ApiServiceImpl implements ApiService {
 //                .block(); // 동기 방식으로 대기
 //    }
 
-    private static final int DASHBOARD_API_TIMEOUT_SECONDS = 100;
-    
     @Override
     public Mono<byte[]> getAnalysisResult(int infoDbNo, String user_info, String user_sub_info) {
 
@@ -91,67 +125,47 @@ public class ApiServiceImpl implements ApiService {
             throw new IllegalArgumentException("필수 파라미터가 누락되었습니다.");
         }
 
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/dashboard")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("user_info", user_info)
-                            .queryParam("user_sub_info", user_sub_info)
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .onErrorResume(WebClientResponseException.class, e -> {
-                        log.error("대시보드 데이터 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-                        return Mono.error(new CustomException(ErrorCode.DASHBOARD_API_FAILED, e));
-                    })
-                    .onErrorResume(Exception.class, e -> {
-                        log.error("대시보드 데이터 요청 중 예외 발생: {}", e.getMessage());
-                        return Mono.error(new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e));
-                    });
-        } catch (WebClientResponseException e) {
-            log.error("대시보드 데이터 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("대시보드 데이터 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+        // 같은 대시보드를 동시에 여는 요청은 업스트림 호출 하나를 공유
+        String flightKey = "dashboard:" + infoDbNo + ":" + user_info + ":" + user_sub_info;
+
+        return singleFlight.execute(flightKey, () -> handleApiError(callGuard.guard(AnalyticsEndpoint.DASHBOARD, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/dashboard")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("user_info", user_info)
+                        .queryParam("user_sub_info", user_sub_info)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.DASHBOARD))), "대시보드 데이터 요청"));
     }
 
     @Override
-    public byte[] getSingleAnalysisResult(String infoDbNo, String originTable, String clusterType) {
+    public Mono<byte[]> getSingleAnalysisResult(String infoDbNo, String originTable, String clusterType) {
         if (infoDbNo == null || infoDbNo.isBlank() ||
                 originTable == null || originTable.isBlank() ||
                 clusterType == null || clusterType.isBlank()) {
             throw new IllegalArgumentException("단일 Cohort 분석에 필요한 파라미터가 누락되었습니다.");
         }
 
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/analysis")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("origin_table", originTable)
-                            .queryParam("clusterType", clusterType)
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("단일 Cohort 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("단일 Cohort 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+        String cacheKey = "analysis:single:" + originTable + ":" + clusterType;
+
+        return cachedCall(infoDbNo, cacheKey, () -> handleApiError(callGuard.guard(AnalyticsEndpoint.ANALYSIS, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .queryParam("clusterType", clusterType)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.ANALYSIS))), "단일 Cohort 분석 요청"));
     }
 
     @Override
-    public byte[] getDoubleAnalysisResult(String infoDbNo, String originTable, String firstClusterType, String secondClusterType) {
+    public Mono<byte[]> getDoubleAnalysisResult(String infoDbNo, String originTable, String firstClusterType, String secondClusterType) {
         if (infoDbNo == null || infoDbNo.isBlank() ||
                 originTable == null || originTable.isBlank() ||
                 firstClusterType == null || firstClusterType.isBlank() ||
@@ -159,168 +173,307 @@ public class ApiServiceImpl implements ApiService {
             throw new IllegalArgumentException("이중 Cohort 분석에 필요한 파라미터가 누락되었습니다.");
         }
 
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/analysis")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("origin_table", originTable)
-                            .queryParam("firstClusterType", firstClusterType)
-                            .queryParam("secondClusterType", secondClusterType)
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("이중 Cohort 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("이중 Cohort 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+        String cacheKey = "analysis:double:" + originTable + ":" + firstClusterType + ":" + secondClusterType;
+
+        return cachedCall(infoDbNo, cacheKey, () -> handleApiError(callGuard.guard(AnalyticsEndpoint.ANALYSIS, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .queryParam("firstClusterType", firstClusterType)
+                        .queryParam("secondClusterType", secondClusterType)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.ANALYSIS))), "이중 Cohort 분석 요청"));
     }
 
     @Override
-    public byte[] getFullShapResult(String infoDbNo, String originTable) {
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/shap")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("origin_table", originTable)
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("SHAP 전체 분석 실패: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("SHAP 전체 분석 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+    public Mono<byte[]> getFullShapResult(String infoDbNo, String originTable) {
+        String cacheKey = "shap:full:" + originTable;
+
+        return cachedCall(infoDbNo, cacheKey, () -> handleApiError(callGuard.guard(AnalyticsEndpoint.SHAP, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/shap")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SHAP))), "SHAP 전체 분석"));
     }
 
     @Override
-    public byte[] getFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters) {
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/shap")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("origin_table", originTable)
-                            .queryParamIfPresent("keyword", Optional.ofNullable(keyword))
-                            .build())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(filters)
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("SHAP 필터 분석 실패: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("SHAP 필터 분석 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+    public Mono<byte[]> getFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters) {
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.SHAP, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/shap")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .queryParamIfPresent("keyword", Optional.ofNullable(keyword))
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(filters)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SHAP))), "SHAP 필터 분석");
     }
 
     @Override
-    public byte[] getCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/analysis/cohort")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("analysis_type", analysis.getName().split("-")[1])
-                            .queryParam("filename", filename)
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("단일 Cohort 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("단일 Cohort 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+    public Mono<byte[]> getCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename) {
+        String cacheKey = cohortOneCacheKey(analysis, filename);
+
+        return cachedCall(String.valueOf(infoDbNo), cacheKey, () -> handleApiError(callGuard.guard(AnalyticsEndpoint.COHORT, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis/cohort")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("analysis_type", analysis.getName().split("-")[1])
+                        .queryParam("filename", filename)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.COHORT))), "단일 Cohort 분석 요청"));
     }
 
     @Override
-    public Map<String, Object> getCohortListAnalysis(Long infoDbNo, Analysis analysis) {
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/analysis/cohort/list")
-                            .queryParam("info_db_no", infoDbNo)
-                            .queryParam("analysis_type", analysis.getName().split("-")[1])
-                            .build())
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-
-        } catch (WebClientResponseException e) {
-            log.error("Cohort 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("Cohort 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
-        }
+    public Mono<List<ApiFileInfoResponseDto>> getCohortListAnalysis(Long infoDbNo, Analysis analysis) {
+        String analysisType = analysis.getName().split("-")[1];
+
+        return fileListingCache.get(FileListingCache.cohortKey(infoDbNo, analysisType),
+                since -> listCohortFiles(infoDbNo, analysisType, since));
+    }
+
+    // 목록 캐시에서 파일 정보 조회 (S3 key 가 filename 이거나 '/filename' 으로 끝나는 항목, 없으면 empty)
+    @Override
+    public Mono<ApiFileInfoResponseDto> findCohortFile(Long infoDbNo, Analysis analysis, String filename) {
+        return getCohortListAnalysis(infoDbNo, analysis)
+                .flatMap(files -> Mono.justOrEmpty(files.stream()
+                        .filter(file -> file.getKey() != null
+                                && (file.getKey().equals(filename) || file.getKey().endsWith("/" + filename)))
+                        .findFirst()));
+    }
+
+    // 확정된 코호트 행은 저장소에서 재사용하고 Python 에는 워터마크 이후 기간만 요청
+    @Override
+    public Mono<byte[]> requestCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis) {
+        String analysisType = analysis.getName().split("-")[1];
+        String storeKey = CohortRowStore.key(apiCohortRequestDto.getInfoDbNo(), analysisType,
+                apiCohortRequestDto.getTargetTableUser(), apiCohortRequestDto.getTargetTableSub());
+
+        return singleFlight.execute("cohort-rows:" + storeKey + ":" + apiCohortRequestDto.getTargetDate(),
+                        () -> cohortRowStore.compute(storeKey, apiCohortRequestDto.getTargetDate(),
+                                startDate -> fetchCohortAnalysis(apiCohortRequestDto, analysisType, startDate)))
+                // 새 결과 파일이 생겼으므로 목록 캐시 무효화
+                .flatMap(response -> fileListingCache.invalidate(FileListingCache.cohortKey(
+                        apiCohortRequestDto.getInfoDbNo(), analysisType)).thenReturn(response));
+    }
+
+    // startDate 가 있으면 그 이후 코호트 월만 계산 요청 (지원하지 않아 전체가 와도 병합 결과는 동일)
+    // 확정 행과 병합하려면 전체를 메모리에 올려야 하므로 maxEntrySize 를 넘는 결과는 실패 처리
+    private Mono<byte[]> fetchCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, String analysisType, LocalDate startDate) {
+        int maxBytes = (int) analysisCacheProperties.getMaxEntrySize().toBytes();
+
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.COHORT, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis/cohort")
+                        .queryParam("info_db_no", apiCohortRequestDto.getInfoDbNo())
+                        .queryParam("target_table_user", apiCohortRequestDto.getTargetTableUser())
+                        .queryParam("target_table_sub", apiCohortRequestDto.getTargetTableSub())
+                        .queryParam("analysis_type", analysisType)
+                        .queryParam("target_date", apiCohortRequestDto.getTargetDate())
+                        .queryParamIfPresent("start_date", Optional.ofNullable(startDate))
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, maxBytes))
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .onErrorMap(DataBufferLimitException.class, e -> {
+                    log.warn("Cohort 분석 결과가 {} bytes 를 넘어 병합할 수 없음: infoDbNo={}", maxBytes, apiCohortRequestDto.getInfoDbNo());
+                    return new CustomException(ErrorCode.ANALYSIS_API_CALL_FAILURE, e);
+                })
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.COHORT))), "Cohort 분석 요청");
+    }
+
+    @Override
+    public Mono<ApiInsightResponseDto> getInsightByFilename(String filename) {
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.INSIGHT, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/openai/analyze")
+                        .queryParam("filename", filename)
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(ApiInsightResponseDto.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.INSIGHT))), "Cohort 인사이트 분석 요청");
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamFullShapResult(String infoDbNo, String originTable) {
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.SHAP, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/shap")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                // 압축된 그대로 클라이언트에 전달할 수 있도록 gzip 요청
+                .header(HttpHeaders.ACCEPT_ENCODING, CompressionUtil.GZIP)
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SHAP))), "SHAP 전체 분석 스트리밍")
+                .map(response -> StreamingResponseUtil.withIdleTimeout(response, analyticsApiProperties.getStreamIdleTimeout()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamFilteredShapResult(String infoDbNo, String originTable, String keyword, Map<String, Object> filters) {
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.SHAP, webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/shap")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("origin_table", originTable)
+                        .queryParamIfPresent("keyword", Optional.ofNullable(keyword))
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(filters)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                // 압축된 그대로 클라이언트에 전달할 수 있도록 gzip 요청
+                .header(HttpHeaders.ACCEPT_ENCODING, CompressionUtil.GZIP)
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SHAP))), "SHAP 필터 분석 스트리밍")
+                .map(response -> StreamingResponseUtil.withIdleTimeout(response, analyticsApiProperties.getStreamIdleTimeout()));
     }
 
     @Override
-    public byte[] requestCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis) {
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/analysis/cohort")
-                            .queryParam("info_db_no", apiCohortRequestDto.getInfoDbNo())
-                            .queryParam("target_table_user", apiCohortRequestDto.getTargetTableUser())
-                            .queryParam("target_table_sub", apiCohortRequestDto.getTargetTableSub())
-                            .queryParam("analysis_type", analysis.getName().split("-")[1])
-                            .queryParam("target_date", apiCohortRequestDto.getTargetDate())
-                            .build())
-                    .accept(MediaType.APPLICATION_OCTET_STREAM)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .timeout(Duration.ofSeconds(DASHBOARD_API_TIMEOUT_SECONDS))
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("Cohort 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("Cohort 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamCohortOneAnalysis(Long infoDbNo, Analysis analysis, String filename, String range, String ifRange) {
+        Mono<ResponseEntity<Flux<DataBuffer>>> upstream = handleApiError(callGuard.guard(AnalyticsEndpoint.COHORT, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis/cohort")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("analysis_type", analysis.getName().split("-")[1])
+                        .queryParam("filename", filename)
+                        .build())
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                // 클라이언트가 보낸 Range 를 그대로 전달 (업스트림이 지원하면 206 으로 응답)
+                // 부분 요청이 아니면 gzip 으로 받아 압축된 그대로 전달/캐시
+                .headers(headers -> {
+                    if (range != null && !range.isBlank()) {
+                        headers.set(HttpHeaders.RANGE, range);
+                        if (ifRange != null && !ifRange.isBlank()) {
+                            headers.set(HttpHeaders.IF_RANGE, ifRange);
+                        }
+                    } else {
+                        headers.set(HttpHeaders.ACCEPT_ENCODING, CompressionUtil.GZIP);
+                    }
+                })
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.COHORT))), "단일 Cohort 분석 스트리밍")
+                .map(response -> StreamingResponseUtil.withIdleTimeout(response, analyticsApiProperties.getStreamIdleTimeout()));
+
+        // 부분 요청은 캐시를 거치지 않음
+        if (range != null && !range.isBlank()) {
+            return upstream;
+        }
+
+        String cacheInfoDbNo = String.valueOf(infoDbNo);
+        String cacheKey = cohortOneCacheKey(analysis, filename);
+
+        // gzip 캐시 -> 원본 캐시 -> 업스트림 순으로 조회
+        return analysisResultCache.get(cacheInfoDbNo, cacheKey + GZIP_CACHE_SUFFIX)
+                .map(cached -> cachedResponse(cached, true))
+                .switchIfEmpty(analysisResultCache.get(cacheInfoDbNo, cacheKey)
+                        .map(cached -> cachedResponse(cached, false)))
+                .switchIfEmpty(upstream.map(response -> {
+                    String teeKey = CompressionUtil.isGzip(response.getHeaders()) ? cacheKey + GZIP_CACHE_SUFFIX : cacheKey;
+                    Flux<DataBuffer> body = analysisResultCache.tee(cacheInfoDbNo, teeKey,
+                            response.getBody(), response.getHeaders().getContentLength());
+                    return new ResponseEntity<>(body, response.getHeaders(), response.getStatusCode());
+                }));
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> cachedResponse(byte[] cached, boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(cached.length);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, CompressionUtil.GZIP);
         }
+        Flux<DataBuffer> body = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cached));
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
+    // 확정 행 병합을 거친 결과를 한 번에 응답 (병합을 위해 byte[] 로 모으며 크기는 maxEntrySize 로 제한)
     @Override
-    public ApiInsightResponseDto getInsightByFilename(String filename) {
-        try {
-            return webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/python-api/openai/analyze")
-                            .queryParam("filename", filename)
-                            .build())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(ApiInsightResponseDto.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("Cohort 인사이트 분석 요청 실패: {}, 상태 코드: {}", e.getMessage(), e.getStatusCode());
-            throw new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
-        } catch (Exception e) {
-            log.error("Cohort 인사이트 분석 요청 중 예외 발생: {}", e.getMessage());
-            throw new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamCohortAnalysis(ApiCohortRequestDto apiCohortRequestDto, Analysis analysis) {
+        return requestCohortAnalysis(apiCohortRequestDto, analysis)
+                .map(response -> cachedResponse(response, false));
+    }
+
+    // since(LastModified 워터마크)가 있으면 그 이후 변경분만 요청 (지원하지 않아 전체 목록이 와도 병합 결과는 동일)
+    // modified_since 는 UTC ISO-8601 ("2025-04-29T10:00:00Z") 형식으로 전달
+    private Mono<List<ApiFileInfoResponseDto>> listCohortFiles(Long infoDbNo, String analysisType, Instant since) {
+        return handleApiError(callGuard.guard(AnalyticsEndpoint.COHORT, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/python-api/analysis/cohort/list")
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("analysis_type", analysisType)
+                        .queryParamIfPresent("modified_since", Optional.ofNullable(since).map(Instant::toString))
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.COHORT))), "Cohort 목록 요청")
+                .map(this::toFileInfos);
+    }
+
+    // S3 ListObjects 응답의 Contents 를 파일 정보로 변환
+    @SuppressWarnings("unchecked")
+    private List<ApiFileInfoResponseDto> toFileInfos(Map<String, Object> response) {
+        if (!(response.get("Contents") instanceof List<?> contents)) {
+            return List.of();
         }
+
+        List<ApiFileInfoResponseDto> fileInfos = new ArrayList<>(contents.size());
+        for (Object content : contents) {
+            Map<String, Object> item = (Map<String, Object>) content;
+            Object lastModified = item.get("LastModified");
+            long size = item.get("Size") instanceof Number number ? number.longValue() : 0L;
+            fileInfos.add(new ApiFileInfoResponseDto(
+                    (String) item.get("Key"),
+                    lastModified != null ? String.valueOf(lastModified) : null,
+                    size));
+        }
+        return fileInfos;
+    }
+
+    // 결과 캐시 조회 + 캐시 미스 시 동일 요청 업스트림 호출 공유
+    private Mono<byte[]> cachedCall(String infoDbNo, String cacheKey, Supplier<Mono<byte[]>> loader) {
+        return singleFlight.execute("result:" + infoDbNo + ":" + cacheKey,
+                () -> analysisResultCache.getOrLoad(infoDbNo, cacheKey, loader));
+    }
+
+    private String cohortOneCacheKey(Analysis analysis, String filename) {
+        return "cohort:" + analysis.getName().split("-")[1] + ":" + filename;
+    }
+
+    // 외부 API 호출 예외를 CustomException으로 변환 (이미 변환된 예외는 그대로 전달)
+    private <T> Mono<T> handleApiError(Mono<T> response, String action) {
+        return response.onErrorMap(e -> !(e instanceof CustomException), e -> {
+            if (e instanceof WebClientResponseException webClientResponseException) {
+                log.error("{} 실패: {}, 상태 코드: {}", action, e.getMessage(), webClientResponseException.getStatusCode());
+                return new CustomException(ErrorCode.DASHBOARD_API_FAILED, e);
+            }
+            log.error("{} 중 예외 발생: {}", action, e.getMessage());
+            return new CustomException(ErrorCode.DASHBOARD_UNKNOWN_ERROR, e);
+        });
     }
 }
@@ -0,0 +1,71 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Python 서버 전체 동시 호출 수를 AIMD 방식으로 조절
+// 성공 시 limit 을 1/limit 씩 늘리고, 장애 신호(타임아웃/5xx/연결 실패) 시 backoffRatio 만큼 줄임
+@Component
+public class AdaptiveConcurrencyLimiter {
+    private final AnalyticsApiProperties.Limiter properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(AnalyticsApiProperties analyticsApiProperties) {
+        this.properties = analyticsApiProperties.getLimiter();
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            int current = inFlight.getAndDecrement();
+            // limit 을 절반 이상 쓰고 있을 때만 증가 (한가할 때 limit 이 무한정 커지는 것 방지)
+            if (current * 2 >= limit) {
+                limit = Math.min(properties.getMaxLimit(), limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onDropped() {
+        lock.lock();
+        try {
+            inFlight.decrementAndGet();
+            limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 취소, 4xx 등 서버 상태와 무관한 종료
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
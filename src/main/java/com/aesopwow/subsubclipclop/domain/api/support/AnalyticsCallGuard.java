@@ -0,0 +1,71 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Python 서버 호출 보호: 엔드포인트별 벌크헤드 -> 적응형 동시성 제한 -> 서킷 브레이커(서버 전체)
+// 벌크헤드/동시성 제한의 거절은 서버 장애가 아니므로 서킷 브레이커 바깥에 두어 실패율 계산에 넣지 않음
+// 스트리밍 호출은 응답 헤더 수신 시점에 permit 이 반환됨
+@Component
+@RequiredArgsConstructor
+public class AnalyticsCallGuard {
+    private static final String CIRCUIT_BREAKER_NAME = "analytics";
+    private static final String BULKHEAD_PREFIX = "analytics-";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final AnalyticsFailurePredicate failurePredicate = new AnalyticsFailurePredicate();
+
+    public <T> Mono<T> guard(AnalyticsEndpoint endpoint, Mono<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_PREFIX + endpoint.name().toLowerCase(Locale.ROOT));
+
+        return limit(call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker)))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(CallNotPermittedException.class, e -> new CustomException(ErrorCode.DASHBOARD_API_FAILED, e))
+                .onErrorMap(BulkheadFullException.class, e -> new CustomException(ErrorCode.ANALYSIS_API_BUSY, e))
+                // 호출 지표에 엔드포인트 태그를 붙이기 위해 전달
+                .contextWrite(AnalyticsMetricsFilter.endpoint(endpoint));
+    }
+
+    private <T> Mono<T> limit(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!concurrencyLimiter.tryAcquire()) {
+                return Mono.error(new CustomException(ErrorCode.ANALYSIS_API_BUSY));
+            }
+            // 값을 받은 뒤 취소 신호로 끝나는 경우가 있어 성공 여부는 onSuccess 에서 기록
+            AtomicBoolean succeeded = new AtomicBoolean();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return call
+                    .doOnSuccess(value -> succeeded.set(true))
+                    .doOnError(failure::set)
+                    .doFinally(signal -> {
+                        if (succeeded.get()) {
+                            concurrencyLimiter.onSuccess();
+                        } else if (signal == SignalType.ON_ERROR && failurePredicate.test(failure.get())) {
+                            concurrencyLimiter.onDropped();
+                        } else {
+                            concurrencyLimiter.onIgnored();
+                        }
+                    });
+        });
+    }
+}
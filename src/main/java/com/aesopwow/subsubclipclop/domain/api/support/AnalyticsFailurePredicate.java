@@ -0,0 +1,21 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+// Python 서버 장애로 볼 예외 (타임아웃, 연결 실패, 5xx/429). 4xx 등 요청 자체의 문제는 제외
+// resilience4j record-failure-predicate 로도 사용하므로 public 기본 생성자 유지
+public class AnalyticsFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == 429;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,157 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Python 분석 서버 복제본 간 클라이언트 측 로드밸런서 (WebClient 필터)
+// - 두 복제본을 무작위로 골라 점수(지연 EWMA x 진행 중 요청 수)가 낮은 쪽으로 전송 (power of two choices)
+// - 멱등한 GET 은 p95 지연 안에 응답이 없으면 다른 복제본으로 중복 요청하고 먼저 온 응답 사용
+// - 연결 실패/5xx 가 연속되면 일정 시간 라우팅에서 제외 (모두 제외되면 전체를 대상으로 함)
+@Component
+public class AnalyticsLoadBalancer implements ExchangeFilterFunction {
+    // p95 계산용 최근 GET 응답 지연 표본 수
+    private static final int LATENCY_WINDOW = 512;
+    // p95 재계산 주기 (표본 수 기준)
+    private static final int QUANTILE_REFRESH = 64;
+
+    private final AnalyticsApiProperties.Routing routing;
+    private final List<AnalyticsReplica> replicas;
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long hedgeDelayNanos;
+
+    public AnalyticsLoadBalancer(AnalyticsApiProperties analyticsApiProperties) {
+        this.routing = analyticsApiProperties.getRouting();
+        this.replicas = analyticsApiProperties.getReplicas().stream()
+                .map(url -> new AnalyticsReplica(URI.create(url), routing.getEwmaDecay()))
+                .toList();
+        this.hedgeDelayNanos = routing.getHedgeMinDelay().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return !replicas.isEmpty();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        List<AnalyticsReplica> candidates = candidates();
+        AnalyticsReplica primary = choose(candidates, null);
+        boolean get = HttpMethod.GET.equals(request.method());
+        Mono<ClientResponse> first = exchange(primary, request, next, get);
+
+        if (!routing.isHedgeEnabled() || !get || candidates.size() < 2) {
+            return first;
+        }
+
+        AnalyticsReplica secondary = choose(candidates, primary);
+        Mono<ClientResponse> hedge = Mono.delay(Duration.ofNanos(hedgeDelayNanos))
+                .then(Mono.defer(() -> exchange(secondary, request, next, true)));
+
+        // 먼저 온 응답을 쓰고 나머지는 취소, 한쪽이 실패하면 다른 쪽 결과를 기다림
+        return Flux.mergeDelayError(2, first, hedge)
+                .next()
+                .doOnDiscard(ClientResponse.class, response -> response.releaseBody().subscribe())
+                .onErrorMap(Exceptions::isMultiple, e -> Exceptions.unwrapMultiple(e).get(0));
+    }
+
+    private Mono<ClientResponse> exchange(AnalyticsReplica replica, ClientRequest request, ExchangeFunction next,
+                                          boolean recordLatency) {
+        URI url = UriComponentsBuilder.fromUri(request.url())
+                .scheme(replica.getUri().getScheme())
+                .host(replica.getUri().getHost())
+                .port(replica.getUri().getPort())
+                .build(true)
+                .toUri();
+        ClientRequest routed = ClientRequest.from(request).url(url).build();
+
+        return Mono.defer(() -> {
+            AtomicBoolean done = new AtomicBoolean();
+            long start = System.nanoTime();
+            replica.onStart();
+
+            return next.exchange(routed)
+                    .doOnNext(response -> {
+                        if (done.compareAndSet(false, true)) {
+                            long latency = System.nanoTime() - start;
+                            if (response.statusCode().is5xxServerError()) {
+                                replica.onFailure(latency, routing.getEjectAfterFailures(), routing.getEjectionTime());
+                            } else {
+                                replica.onSuccess(latency);
+                                if (recordLatency) {
+                                    recordLatency(latency);
+                                }
+                            }
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (done.compareAndSet(false, true)) {
+                            replica.onFailure(System.nanoTime() - start,
+                                    routing.getEjectAfterFailures(), routing.getEjectionTime());
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (done.compareAndSet(false, true)) {
+                            replica.onCancel();
+                        }
+                    });
+        });
+    }
+
+    private List<AnalyticsReplica> candidates() {
+        long now = System.nanoTime();
+        List<AnalyticsReplica> available = replicas.stream()
+                .filter(replica -> replica.isAvailable(now))
+                .toList();
+        return available.isEmpty() ? replicas : available;
+    }
+
+    // 무작위 두 개 중 점수가 낮은 복제본 (exclude 는 헤징 시 첫 요청 복제본)
+    private AnalyticsReplica choose(List<AnalyticsReplica> candidates, AnalyticsReplica exclude) {
+        List<AnalyticsReplica> pool = exclude == null
+                ? candidates
+                : candidates.stream().filter(replica -> replica != exclude).toList();
+        if (pool.size() == 1) {
+            return pool.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(pool.size());
+        int b = random.nextInt(pool.size() - 1);
+        if (b >= a) {
+            b++;
+        }
+        AnalyticsReplica first = pool.get(a);
+        AnalyticsReplica second = pool.get(b);
+        return first.score() <= second.score() ? first : second;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        long count = samples.getAndIncrement();
+        latencies[(int) (count % LATENCY_WINDOW)] = latencyNanos;
+
+        if ((count + 1) % QUANTILE_REFRESH == 0) {
+            int size = (int) Math.min(count + 1, LATENCY_WINDOW);
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            long quantile = sorted[(int) Math.min(size - 1, Math.ceil(size * routing.getHedgeQuantile()) - 1)];
+            hedgeDelayNanos = Math.max(routing.getHedgeMinDelay().toNanos(), quantile);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Python 분석 서버 호출 지표 (WebClient 필터, Prometheus 용 히스토그램 포함)
+// analytics.client.ttfb          응답 헤더까지 걸린 시간
+// analytics.client.ttlb          응답 본문 마지막 바이트까지 걸린 시간
+// analytics.client.response.size 응답 본문 크기 (bytes)
+// 태그: endpoint, method, analysis_type, info_db_no, status, outcome
+@Component
+@RequiredArgsConstructor
+public class AnalyticsMetricsFilter implements ExchangeFilterFunction {
+    private static final String ENDPOINT_CONTEXT_KEY = AnalyticsMetricsFilter.class.getName() + ".endpoint";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    // 호출하는 쪽에서 엔드포인트 그룹을 Reactor Context 로 전달 (AnalyticsCallGuard 가 자동으로 설정)
+    public static Function<Context, Context> endpoint(AnalyticsEndpoint endpoint) {
+        return context -> context.put(ENDPOINT_CONTEXT_KEY, endpoint);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            String endpoint = context.getOrEmpty(ENDPOINT_CONTEXT_KEY)
+                    .map(value -> ((AnalyticsEndpoint) value).name().toLowerCase(Locale.ROOT))
+                    .orElse(NONE);
+            MultiValueMap<String, String> query = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+            // info_db_no 는 고객사 DB 단위라 값 수가 제한적이므로 태그로 사용
+            Tags tags = Tags.of(
+                    "endpoint", endpoint,
+                    "method", request.method().name(),
+                    "analysis_type", firstOrNone(query, "analysis_type"),
+                    "info_db_no", firstOrNone(query, "info_db_no"));
+            long start = System.nanoTime();
+
+            return next.exchange(request)
+                    .map(response -> {
+                        Tags responseTags = tags.and(
+                                "status", String.valueOf(response.statusCode().value()),
+                                "outcome", Outcome.forStatus(response.statusCode().value()).name());
+                        timer("analytics.client.ttfb", "Python 분석 서버 응답 헤더 수신 시간", responseTags)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                        AtomicLong bytes = new AtomicLong();
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                        .doFinally(signal -> {
+                                            Tags bodyTags = signal == SignalType.ON_COMPLETE
+                                                    ? responseTags
+                                                    : responseTags.and("outcome", signal == SignalType.CANCEL ? "CANCELLED" : "ERROR");
+                                            timer("analytics.client.ttlb", "Python 분석 서버 응답 본문 수신 완료 시간", bodyTags)
+                                                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                            DistributionSummary.builder("analytics.client.response.size")
+                                                    .description("Python 분석 서버 응답 본문 크기")
+                                                    .baseUnit("bytes")
+                                                    .publishPercentileHistogram()
+                                                    .tags(bodyTags)
+                                                    .register(meterRegistry)
+                                                    .record(bytes.get());
+                                        }))
+                                .build();
+                    })
+                    .doOnError(e -> timer("analytics.client.ttfb", "Python 분석 서버 응답 헤더 수신 시간",
+                            tags.and("status", NONE, "outcome", "ERROR"))
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static String firstOrNone(MultiValueMap<String, String> query, String name) {
+        String value = query.getFirst(name);
+        return value == null || value.isBlank() ? NONE : value;
+    }
+}
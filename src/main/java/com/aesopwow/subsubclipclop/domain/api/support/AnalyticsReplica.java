@@ -0,0 +1,82 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Python 분석 서버 복제본 하나의 상태 (진행 중 요청 수, 지연 EWMA, 연속 실패/제외 시각)
+class AnalyticsReplica {
+    private final URI uri;
+    private final long decayNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private double ewmaNanos;
+    private long lastUpdateNanos = System.nanoTime();
+    private volatile long ejectedUntilNanos;
+
+    AnalyticsReplica(URI uri, Duration ewmaDecay) {
+        this.uri = uri;
+        this.decayNanos = ewmaDecay.toNanos();
+    }
+
+    URI getUri() {
+        return uri;
+    }
+
+    boolean isAvailable(long now) {
+        return now - ejectedUntilNanos >= 0;
+    }
+
+    // 점수가 낮을수록 우선 (지연 EWMA 에 진행 중 요청 수를 곱해 느리거나 밀린 복제본을 피함)
+    double score() {
+        lock.lock();
+        try {
+            return (ewmaNanos + 1) * (outstanding.get() + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    void onSuccess(long latencyNanos) {
+        outstanding.decrementAndGet();
+        consecutiveFailures.set(0);
+        update(latencyNanos);
+    }
+
+    void onFailure(long latencyNanos, int ejectAfterFailures, Duration ejectionTime) {
+        outstanding.decrementAndGet();
+        update(latencyNanos);
+        if (consecutiveFailures.incrementAndGet() >= ejectAfterFailures) {
+            consecutiveFailures.set(0);
+            ejectedUntilNanos = System.nanoTime() + ejectionTime.toNanos();
+        }
+    }
+
+    // 응답 전에 취소된 요청(헤징 패배, 타임아웃)은 지연/실패에 반영하지 않음
+    void onCancel() {
+        outstanding.decrementAndGet();
+    }
+
+    // 시간 가중 EWMA, 평균보다 큰 지연은 바로 반영 (peak EWMA)
+    private void update(long latencyNanos) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - lastUpdateNanos) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aesopwow.subsubclipclop.domain.api.support;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 같은 key 로 동시에 들어온 요청은 진행 중인 업스트림 Mono 하나를 공유 (single-flight)
+@Component
+public class SingleFlight {
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> (Mono<T>) inFlight.computeIfAbsent(key, k -> share(k, call)));
+    }
+
+    // 완료(성공/실패) 시 자기 자신만 맵에서 제거, 구독자 중 일부가 취소해도 업스트림은 끝까지 진행
+    private <T> Mono<T> share(String key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        Mono<T> shared = call.get()
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.aesopwow.subsubclipclop.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+    @NotBlank
+    private String refreshToken;
+}
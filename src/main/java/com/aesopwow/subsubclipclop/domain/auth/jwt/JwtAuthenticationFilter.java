@@ -1,7 +1,7 @@
 package com.aesopwow.subsubclipclop.domain.auth.jwt;
 
 import com.aesopwow.subsubclipclop.domain.auth.service.CustomUserDetailsService;
-import com.aesopwow.subsubclipclop.entity.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,10 +34,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String bearerToken = request.getHeader("Authorization");
         String token = jwtTokenProvider.resolveToken(bearerToken); // 정상 흐름
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getEmail(token);
+        // 서명 검증은 한 번만 하고, 검증된 클레임을 인증 주체 생성에 그대로 사용
+        Claims claims = token != null ? jwtTokenProvider.getValidClaims(token) : null;
 
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        if (claims != null) {
+            // 토큰 클레임만으로 인증 주체를 만들고, 클레임이 부족한 이전 형식 토큰만 DB 에서 조회
+            UserDetails userDetails = jwtTokenProvider.getUserDetails(claims);
+            if (userDetails == null) {
+                userDetails = customUserDetailsService.loadUserByUsername(jwtTokenProvider.getEmail(claims));
+            }
 
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
@@ -1,10 +1,18 @@
 package com.aesopwow.subsubclipclop.domain.auth.jwt;
 
+import com.aesopwow.subsubclipclop.entity.CustomUserDetails;
+import com.aesopwow.subsubclipclop.entity.Role;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -13,95 +21,222 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    // 파서는 불변/스레드 안전이므로 한 번만 만들어서 재사용
+    private final JwtParser jwtParser;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final VerifiedTokenCache verifiedTokenCache;
 //    private static final long ACCESS_TOKEN_EXP = 1000L * 60L * 15L; // 15분
     private static final long ACCESS_TOKEN_EXP = 1000L * 60L * 60L * 24L; // 24시간
     private static final long REFRESH_TOKEN_EXP = 1000L * 60L * 60L * 24; // 1일
 
+    // refresh:user:{userNo} 해시 -> 필드: 로그인 세션(family), 값: 세션의 현재 리프레시 토큰 jti
+    private static final String REFRESH_KEY_PREFIX = "refresh:user:";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // KEYS[1]=사용자 해시, ARGV: family, jti, ttl(ms)
+    private static final RedisScript<Long> ISSUE_REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+                    + "return 1",
+            Long.class);
+
+    // KEYS[1]=사용자 해시, ARGV: family, 제시된 jti, 새 jti, ttl(ms)
+    // 1: 회전 성공, 0: 없는(폐기/만료된) 세션, -1: 재사용 감지 -> 세션 폐기
+    private static final RedisScript<Long> ROTATE_REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if not current then return 0 end "
+                    + "if current ~= ARGV[2] then redis.call('HDEL', KEYS[1], ARGV[1]) return -1 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+                    + "return 1",
+            Long.class);
+
 
     public JwtTokenProvider(@Value("${spring.jwt.secret}") String secret,
-                            RedisTemplate<String, String> redisTemplate) {
+                            RedisTemplate<String, String> redisTemplate,
+                            TokenBlacklist tokenBlacklist,
+                            VerifiedTokenCache verifiedTokenCache) {
         this.secretKey = new SecretKeySpec(
                 secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.redisTemplate = redisTemplate;
+        this.tokenBlacklist = tokenBlacklist;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     private String createToken(Map<String, String> claims, long tokenExp) {
+        return createToken(claims, tokenExp, Long.toHexString(System.nanoTime()));
+    }
+
+    private String createToken(Map<String, String> claims, long tokenExp, String jti) {
         return Jwts.builder()
                 .header().add("typ", "JWT").and()
                 .claims(claims)
-                .id(Long.toHexString(System.nanoTime()))
+                .id(jti)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + tokenExp))
                 .signWith(secretKey)
                 .compact();
     }
 
-    public String createAccessToken(String email, String role, Long user_no) {
+    // family: 로그인 세션 식별자, 같은 로그인에서 재발급된 액세스/리프레시 토큰이 공유
+    public String createAccessToken(String email, String role, Long user_no, Long company_no, Long info_db_no,
+                                    String family) {
         Map<String, String> claims = new HashMap<>();
 
         claims.put("email", email);
         claims.put("user_no", String.valueOf(user_no));
         claims.put("role", role);
+        // 요청마다 DB 조회 없이 인증 주체를 만들기 위해 소속 회사/DB 번호도 포함 (없으면 빈 문자열)
+        claims.put("company_no", company_no != null ? String.valueOf(company_no) : "");
+        claims.put("info_db_no", info_db_no != null ? String.valueOf(info_db_no) : "");
+        claims.put("fid", family);
 
         return createToken(claims, ACCESS_TOKEN_EXP);
     }
 
-    public String createRefreshToken(String email) {
-        Map<String, String> claims = Map.of("email", email);
-        String refreshToken = createToken(claims, REFRESH_TOKEN_EXP);
+    public static String newFamily() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    // 새 로그인 세션의 리프레시 토큰 발급, 세션의 현재 jti 를 사용자 해시에 저장
+    public String createRefreshToken(Long user_no, String family) {
+        String jti = UUID.randomUUID().toString();
+
+        redisTemplate.execute(ISSUE_REFRESH_SCRIPT, List.of(refreshKey(user_no)),
+                family, jti, String.valueOf(REFRESH_TOKEN_EXP));
+
+        return createToken(refreshClaims(user_no, family), REFRESH_TOKEN_EXP, jti);
+    }
 
-        redisTemplate.opsForValue().set("refresh:" + email,
-                refreshToken, REFRESH_TOKEN_EXP, TimeUnit.MILLISECONDS);
+    // 서명/만료/토큰 종류를 확인한 리프레시 토큰 클레임 (유효하지 않으면 null)
+    public Claims getRefreshClaims(String refreshToken) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(refreshToken).getPayload();
+            if (!REFRESH_TOKEN_TYPE.equals(claims.get("token_type", String.class))
+                    || claims.get("user_no", String.class) == null
+                    || claims.get("fid", String.class) == null) {
+                return null;
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 리프레시 토큰 회전: 세션의 현재 jti 와 일치할 때만 새 토큰으로 교체 (Redis 왕복 1회)
+    // 이미 사용된 토큰이 다시 들어오면 탈취로 보고 해당 세션 전체를 폐기
+    public String rotateRefreshToken(Claims refreshClaims) {
+        Long userNo = Long.valueOf(refreshClaims.get("user_no", String.class));
+        String family = refreshClaims.get("fid", String.class);
+        String jti = UUID.randomUUID().toString();
+
+        Long result = redisTemplate.execute(ROTATE_REFRESH_SCRIPT, List.of(refreshKey(userNo)),
+                family, refreshClaims.getId(), jti, String.valueOf(REFRESH_TOKEN_EXP));
+        if (result == null || result == 0L) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        if (result < 0) {
+            // 탈취된 토큰으로 이미 발급받은 액세스 토큰도 남은 수명 동안 모두 거부
+            tokenBlacklist.revokeFamily(family, new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXP));
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+
+        return createToken(refreshClaims(userNo, family), REFRESH_TOKEN_EXP, jti);
+    }
 
-        return refreshToken;
+    private static Map<String, String> refreshClaims(Long user_no, String family) {
+        return Map.of(
+                "user_no", String.valueOf(user_no),
+                "fid", family,
+                "token_type", REFRESH_TOKEN_TYPE);
+    }
+
+    private static String refreshKey(Long user_no) {
+        return REFRESH_KEY_PREFIX + user_no;
     }
 
     public String getEmail(String token) {
-        return getClaims(token).get("email").toString();
+        return getEmail(getClaims(token));
     }
 
-    public boolean validateToken(String token) {
-        if (isBlacklisted(token)) {
-            return false;
+    public String getEmail(Claims claims) {
+        return claims.get("email").toString();
+    }
+
+    // 검증된 토큰의 클레임으로 인증 주체 생성, 이전 형식 토큰처럼 필요한 클레임이 없으면 null
+    public CustomUserDetails getUserDetails(Claims claims) {
+        String userNo = claims.get("user_no", String.class);
+        String role = claims.get("role", String.class);
+        if (userNo == null || role == null || !claims.containsKey("company_no")) {
+            return null;
+        }
+
+        try {
+            return new CustomUserDetails(
+                    Long.valueOf(userNo),
+                    claims.get("email", String.class),
+                    Role.RoleType.valueOf(role),
+                    toLong(claims.get("company_no", String.class)),
+                    toLong(claims.get("info_db_no", String.class)));
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        return !getClaims(token).getExpiration().before(new Date());
     }
-    private boolean isBlacklisted(String token) {
-        String key = "blacklist:" + getJti(token);
 
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private static Long toLong(String value) {
+        return value == null || value.isEmpty() ? null : Long.valueOf(value);
     }
 
-    public void addBlacklist(String accessToken) {
-        String key = "blacklist:" + getJti(accessToken);
+    public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
 
-        redisTemplate.opsForValue().set(key, "true", ACCESS_TOKEN_EXP, TimeUnit.MILLISECONDS);
+    // 서명 검증은 한 번만 하고 만료/블랙리스트까지 확인한 클레임을 반환 (유효하지 않으면 null)
+    // 서명이 잘못된 토큰은 기존과 같이 JwtException 이 그대로 전파됨
+    // 이미 검증한 토큰은 캐시된 클레임을 사용 (캐시 항목은 토큰 만료 시각에 제거)
+    public Claims getValidClaims(String token) {
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims == null) {
+            try {
+                claims = jwtParser.parseSignedClaims(token).getPayload();
+            } catch (ExpiredJwtException e) {
+                return null;
+            }
+            verifiedTokenCache.put(token, claims);
+        }
+
+        // 리프레시 토큰은 API 인증에 사용할 수 없음
+        if (REFRESH_TOKEN_TYPE.equals(claims.get("token_type"))) {
+            return null;
+        }
+
+        // 블랙리스트는 로컬 목록을 먼저 확인하고 필요할 때만 Redis 조회
+        // 로그인 세션이 폐기된 경우(리프레시 토큰 재사용 감지, 로그아웃)도 함께 거부
+        return tokenBlacklist.isRevoked(claims.getId(), claims.get("fid", String.class)) ? null : claims;
     }
 
-    private String getJti(String token) {
+    public void addBlacklist(String accessToken) {
+        Claims claims = getClaims(accessToken);
 
-        return getClaims(token).getId();
+        tokenBlacklist.revoke(claims.getId(), claims.getExpiration());
     }
 
     private Claims getClaims(String token) {
         // 토큰이 만료되면 parseSignedClaims() 단계에서 ExpiredJwtException이 발생한다.
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -115,9 +250,21 @@ public class JwtTokenProvider {
         return null;
     }
 
+    // 액세스 토큰이 속한 로그인 세션의 리프레시 토큰만 폐기 (세션 정보가 없는 이전 토큰은 사용자 전체 세션 폐기)
     public void deleteRefreshToken(String accessToken) {
-        String email = getEmail(accessToken);
+        Claims claims = getClaims(accessToken);
+        String userNo = claims.get("user_no", String.class);
+        String family = claims.get("fid", String.class);
+        if (userNo == null) {
+            return;
+        }
 
-        redisTemplate.delete("refresh:" + email);
+        if (family != null) {
+            redisTemplate.opsForHash().delete(refreshKey(Long.valueOf(userNo)), family);
+            // 같은 세션에서 재발급된 다른 액세스 토큰도 함께 폐기
+            tokenBlacklist.revokeFamily(family, new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXP));
+        } else {
+            redisTemplate.delete(refreshKey(Long.valueOf(userNo)));
+        }
     }
 }
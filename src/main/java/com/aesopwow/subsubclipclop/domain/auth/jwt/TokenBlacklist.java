@@ -0,0 +1,173 @@
+package com.aesopwow.subsubclipclop.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그아웃된 토큰(jti)과 폐기된 로그인 세션(family) 블랙리스트, Redis 를 원본으로 두고 노드마다 전체 목록을 로컬에 보관
+// 로컬 목록이 완전할 때(pub/sub 구독 후 전체 동기화 완료 + 이후 연결 끊김·용량 초과 없음)는 로컬에 없으면 Redis 조회 없이 유효로 판단
+// 다른 노드의 로그아웃은 pub/sub 으로 받고, 메시지 유실에 대비해 주기적으로 Redis 와 다시 동기화
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+    public static final String CHANNEL = "token-blacklist:add";
+    private static final String KEY_PREFIX = "blacklist:";
+    // 로그인 세션(family) 단위 폐기 항목, blacklist:fid:{family}
+    private static final String FAMILY_PREFIX = "fid:";
+    private static final int MAX_LOCAL_ENTRIES = 100_000;
+    // TTL 이 없는 키는 액세스 토큰 최대 수명만큼 보관
+    private static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklist.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 로컬 목록만으로 판단해도 되는지 여부
+    private volatile boolean complete = false;
+    // 폐기 채널 구독 여부 (구독 전에 발행된 메시지는 받지 못하므로 구독 이후 시작한 동기화만 완전하다고 봄)
+    private volatile boolean subscribed = false;
+    // 연결 끊김 등으로 메시지를 놓쳤을 수 있을 때마다 증가, 그 전에 시작한 동기화 결과는 완전하다고 보지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    // jti 또는 fid:{family} -> 만료 시각(epoch millis), 만료되면 함께 제거
+    private final Cache<String, Long> revoked = Caffeine.newBuilder()
+            .maximumSize(MAX_LOCAL_ENTRIES)
+            .expireAfter(Expiry.creating((String jti, Long expiresAt) ->
+                    Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis()))))
+            .removalListener((String jti, Long expiresAt, RemovalCause cause) -> {
+                // 용량 초과로 밀려난 항목이 있으면 다음 동기화 전까지 Redis 를 함께 확인
+                if (cause == RemovalCause.SIZE) {
+                    markIncomplete();
+                }
+            })
+            .build();
+
+    // family: 토큰이 속한 로그인 세션 (세션 정보가 없는 이전 토큰은 null)
+    public boolean isRevoked(String jti, String family) {
+        if (revoked.getIfPresent(jti) != null
+                || (family != null && revoked.getIfPresent(FAMILY_PREFIX + family) != null)) {
+            return true;
+        }
+        if (complete) {
+            return false;
+        }
+
+        List<String> keys = family != null
+                ? List.of(KEY_PREFIX + jti, KEY_PREFIX + FAMILY_PREFIX + family)
+                : List.of(KEY_PREFIX + jti);
+        Long existing = redisTemplate.countExistingKeys(keys);
+        return existing != null && existing > 0;
+    }
+
+    // 토큰 하나 폐기 (로그아웃), 토큰 만료 시각까지 보관
+    public void revoke(String jti, Date expiration) {
+        add(jti, expiration.getTime());
+    }
+
+    // 로그인 세션 전체 폐기 (리프레시 토큰 재사용 감지 등), 이 세션으로 발급된 액세스 토큰을 until 까지 모두 거부
+    public void revokeFamily(String family, Date until) {
+        add(FAMILY_PREFIX + family, until.getTime());
+    }
+
+    // Redis 에는 남은 수명만큼 저장하고 다른 노드에 전파
+    private void add(String entry, long expiresAt) {
+        long ttl = Math.max(1, expiresAt - System.currentTimeMillis());
+
+        revoked.put(entry, expiresAt);
+        evictVerified(entry);
+        redisTemplate.opsForValue().set(KEY_PREFIX + entry, "true", ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, entry + " " + expiresAt);
+    }
+
+    // 다른 노드에서 발행한 폐기 메시지 반영
+    void onRevoked(String message) {
+        String[] parts = message.split(" ");
+        if (parts.length != 2) {
+            return;
+        }
+        try {
+            revoked.put(parts[0], Long.parseLong(parts[1]));
+            evictVerified(parts[0]);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 메시지: {}", message);
+        }
+    }
+
+    // 폐기 채널 구독 완료 (재연결 후 재구독 포함), 호출한 쪽에서 이어서 resync 실행
+    void onSubscribed() {
+        subscribed = true;
+    }
+
+    void onUnsubscribed() {
+        subscribed = false;
+        markIncomplete();
+    }
+
+    // 연결 끊김이나 메시지 처리 실패로 폐기 메시지를 놓쳤을 수 있음, 다음 동기화 전까지 Redis 를 함께 확인
+    synchronized void markIncomplete() {
+        generation.incrementAndGet();
+        complete = false;
+    }
+
+    private synchronized void markComplete(long startGeneration) {
+        if (generation.get() == startGeneration) {
+            complete = true;
+        }
+    }
+
+    private void evictVerified(String entry) {
+        if (entry.startsWith(FAMILY_PREFIX)) {
+            verifiedTokenCache.evictFamily(entry.substring(FAMILY_PREFIX.length()));
+        } else {
+            verifiedTokenCache.evictJti(entry);
+        }
+    }
+
+    // 주기적으로 (그리고 폐기 채널을 구독할 때마다) Redis 의 블랙리스트 전체를 로컬에 반영
+    // 구독 전에 시작한 동기화는 항목만 반영하고 완전 여부는 바꾸지 않음
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval:5m}")
+    public void resync() {
+        long startGeneration = generation.get();
+        boolean subscribedAtStart = subscribed;
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl == null || ttl == -2) {
+                    continue;
+                }
+
+                long remaining = ttl > 0 ? ttl : DEFAULT_TTL.toMillis();
+                revoked.put(key.substring(KEY_PREFIX.length()), System.currentTimeMillis() + remaining);
+                count++;
+            }
+            if (count >= MAX_LOCAL_ENTRIES) {
+                markIncomplete();
+            } else if (subscribedAtStart) {
+                markComplete(startGeneration);
+            }
+        } catch (RuntimeException e) {
+            markIncomplete();
+            log.warn("토큰 블랙리스트 동기화 실패, Redis 직접 조회로 동작: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.aesopwow.subsubclipclop.domain.auth.jwt;
+
+import io.lettuce.core.event.connection.DisconnectedEvent;
+import io.lettuce.core.resource.ClientResources;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+// 다른 노드에서 발행한 로그아웃(블랙리스트 추가) 메시지를 받아 로컬 목록에 반영
+// 구독이 확인된 뒤에만 로컬 목록을 완전하다고 보고, 연결이 끊기거나 메시지 처리에 실패하면 다시 Redis 를 함께 확인
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistListener implements MessageListener, SubscriptionListener {
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistListener.class);
+
+    private final TokenBlacklist tokenBlacklist;
+    private final TaskScheduler taskScheduler;
+    private final ClientResources clientResources;
+
+    private Disposable disconnectSubscription;
+
+    // 끊긴 연결이 구독 연결인지 구분할 수 없으므로 모든 연결 끊김에서 완전 여부를 해제
+    // (구독 연결이면 재구독 시 onChannelSubscribed 로, 아니면 다음 주기 동기화로 복구)
+    @PostConstruct
+    void init() {
+        disconnectSubscription = clientResources.eventBus().get()
+                .filter(DisconnectedEvent.class::isInstance)
+                .subscribe(event -> tokenBlacklist.markIncomplete());
+    }
+
+    @PreDestroy
+    void destroy() {
+        disconnectSubscription.dispose();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            tokenBlacklist.onRevoked(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            tokenBlacklist.markIncomplete();
+            log.warn("토큰 블랙리스트 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 구독(재연결 후 재구독 포함) 이전에 발행된 폐기는 받지 못했으므로 Redis 와 다시 동기화
+    // 구독 알림은 Redis 연결 스레드에서 오므로 동기화는 스케줄러 스레드에서 실행
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        tokenBlacklist.onSubscribed();
+        taskScheduler.schedule(tokenBlacklist::resync, Instant.now());
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        tokenBlacklist.onUnsubscribed();
+    }
+}
@@ -0,0 +1,73 @@
+package com.aesopwow.subsubclipclop.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+// 서명 검증을 마친 토큰의 클레임 캐시 (토큰 SHA-256 -> 클레임)
+// 같은 토큰으로 반복되는 요청은 HMAC 검증과 클레임 JSON 파싱을 건너뜀
+// 항목은 토큰 만료 시각에 제거되고, 블랙리스트에 추가된 jti 는 즉시 제거
+@Component
+public class VerifiedTokenCache {
+    private static final int MAX_ENTRIES = 50_000;
+
+    // 캐시를 끈 경우 null
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache() {
+        this(MAX_ENTRIES);
+    }
+
+    // maxEntries 가 0 이면 캐시하지 않음 (벤치마크에서 캐시 없이 JwtTokenProvider 검증 비용 측정)
+    VerifiedTokenCache(int maxEntries) {
+        this.cache = maxEntries > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxEntries)
+                        .expireAfter(Expiry.creating((String digest, Claims claims) ->
+                                Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                        .build()
+                : null;
+    }
+
+    public Claims get(String token) {
+        return cache != null ? cache.getIfPresent(digest(token)) : null;
+    }
+
+    // 만료 시각이 없는 토큰은 캐시하지 않음
+    public void put(String token, Claims claims) {
+        if (cache != null && claims.getExpiration() != null) {
+            cache.put(digest(token), claims);
+        }
+    }
+
+    // 로그아웃은 드물어서 전체 순회로 해당 jti 항목 제거
+    public void evictJti(String jti) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(claims -> jti.equals(claims.getId()));
+        }
+    }
+
+    // 폐기된 로그인 세션(family)의 토큰 항목 제거
+    public void evictFamily(String family) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(claims -> family.equals(claims.get("fid", String.class)));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
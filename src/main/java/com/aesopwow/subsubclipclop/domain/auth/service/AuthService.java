@@ -14,6 +14,7 @@ import com.aesopwow.subsubclipclop.entity.Role;
 import com.aesopwow.subsubclipclop.entity.User;
 import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
 import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import io.jsonwebtoken.Claims;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -53,14 +54,44 @@ public class AuthService {
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
-        String accessToken  = jwtTokenProvider.createAccessToken(
+        // 로그인마다 새 세션(family) 으로 토큰 발급
+        String family = JwtTokenProvider.newFamily();
+        String accessToken  = createAccessToken(user, family);
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserNo(), family);
+
+        return new TokenResponseDto(accessToken, refreshToken);
+    }
+
+    // 리프레시 토큰으로 액세스/리프레시 토큰 재발급 (비밀번호 검증 없이 세션 유지)
+    // 리프레시 토큰은 1회용으로 회전되며, 이미 사용된 토큰이 다시 오면 해당 세션 전체를 폐기
+    public TokenResponseDto refresh(String refreshToken) {
+        Claims claims = jwtTokenProvider.getRefreshClaims(refreshToken);
+        if (claims == null) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        // 역할/소속이 바뀌었을 수 있으므로 최신 사용자 정보로 액세스 토큰 발급
+        User user = userRepository.findByUserNo(Long.valueOf(claims.get("user_no", String.class)))
+                .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_INVALID));
+        if (user.getIsDeleted()) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        String newRefreshToken = jwtTokenProvider.rotateRefreshToken(claims);
+        String accessToken = createAccessToken(user, claims.get("fid", String.class));
+
+        return new TokenResponseDto(accessToken, newRefreshToken);
+    }
+
+    private String createAccessToken(User user, String family) {
+        return jwtTokenProvider.createAccessToken(
                 user.getEmail(),
                 user.getRole().getName().toString(),
-                user.getUserNo()
+                user.getUserNo(),
+                user.getCompany() != null ? user.getCompany().getCompanyNo() : null,
+                user.getInfoDb() != null ? user.getInfoDb().getInfoDbNo() : null,
+                family
         );
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
-
-        return new TokenResponseDto(accessToken, refreshToken);
     }
 
     @Transactional
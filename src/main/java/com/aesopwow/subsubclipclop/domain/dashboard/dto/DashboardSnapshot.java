@@ -0,0 +1,41 @@
+package com.aesopwow.subsubclipclop.domain.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+// 버전이 매겨진 대시보드 CSV 스냅샷
+@Getter
+@AllArgsConstructor
+public class DashboardSnapshot {
+    // Redis 저장 형식: version(8) + generatedAt epoch millis(8) + CSV
+    private static final int HEADER_SIZE = Long.BYTES * 2;
+
+    private final long version;
+    private final Instant generatedAt;
+    private final byte[] data;
+
+    public Duration staleness() {
+        return Duration.between(generatedAt, Instant.now());
+    }
+
+    public byte[] encode() {
+        return ByteBuffer.allocate(HEADER_SIZE + data.length)
+                .putLong(version)
+                .putLong(generatedAt.toEpochMilli())
+                .put(data)
+                .array();
+    }
+
+    public static DashboardSnapshot decode(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        long version = buffer.getLong();
+        Instant generatedAt = Instant.ofEpochMilli(buffer.getLong());
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return new DashboardSnapshot(version, generatedAt, data);
+    }
+}
@@ -0,0 +1,62 @@
+package com.aesopwow.subsubclipclop.domain.dashboard.job;
+
+import com.aesopwow.subsubclipclop.config.DashboardSnapshotProperties;
+import com.aesopwow.subsubclipclop.domain.dashboard.repository.DashboardSnapshotRepository;
+import com.aesopwow.subsubclipclop.domain.dashboard.service.DashboardSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 최근 조회된 대시보드 스냅샷을 주기적으로 미리 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSnapshotScheduler {
+    private final DashboardSnapshotProperties dashboardSnapshotProperties;
+    private final DashboardSnapshotRepository dashboardSnapshotRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    @Scheduled(initialDelayString = "${dashboard.snapshot.refresh-interval:1h}",
+            fixedDelayString = "${dashboard.snapshot.refresh-interval:1h}")
+    public void refreshActiveSnapshots() {
+        if (!dashboardSnapshotProperties.isRefreshEnabled()) {
+            return;
+        }
+
+        // 다른 노드가 이미 이번 주기를 처리 중이면 건너뜀
+        Duration lockTime = dashboardSnapshotProperties.getRefreshInterval().dividedBy(2);
+        Boolean locked = dashboardSnapshotRepository.tryLockRefresh(lockTime)
+                .onErrorReturn(false)
+                .block();
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        long maxJitterMillis = Math.max(1, dashboardSnapshotProperties.getMaxJitter().toMillis());
+
+        Long refreshed = dashboardSnapshotRepository.findActiveKeys(dashboardSnapshotProperties.getActiveWindow())
+                // 시작 시점을 0 ~ maxJitter 사이로 흩뿌린 뒤, 실제 갱신은 parallelism 개까지만 동시에 수행
+                .flatMap(key -> Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxJitterMillis)))
+                        .thenReturn(key))
+                // 한 key 의 예외(동기 예외 포함)가 전체 갱신을 멈추지 않도록 key 별로 격리
+                .flatMap(key -> Mono.defer(() -> dashboardSnapshotService.refresh(key))
+                                .onErrorResume(e -> {
+                                    log.warn("대시보드 스냅샷 갱신 실패 - key: {}, 원인: {}", key, e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        dashboardSnapshotProperties.getParallelism())
+                .count()
+                .onErrorResume(e -> {
+                    log.warn("대시보드 스냅샷 갱신 대상 조회 실패: {}", e.getMessage());
+                    return Mono.just(0L);
+                })
+                .block();
+
+        log.info("대시보드 스냅샷 갱신 완료: {}건", refreshed);
+    }
+}
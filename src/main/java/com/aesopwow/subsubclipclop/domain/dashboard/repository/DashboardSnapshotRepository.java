@@ -0,0 +1,77 @@
+package com.aesopwow.subsubclipclop.domain.dashboard.repository;
+
+import com.aesopwow.subsubclipclop.config.DashboardSnapshotProperties;
+import com.aesopwow.subsubclipclop.domain.dashboard.dto.DashboardSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+// 대시보드 스냅샷 Redis 저장소
+// dashboard-snapshot:{key}          -> 최신 스냅샷 (버전/생성시각 포함)
+// dashboard-snapshot:version:{key}  -> 버전 카운터
+// dashboard-snapshot:active         -> 최근 조회된 key (score: 마지막 조회 시각, 최근 maxActiveKeys 개까지)
+@Repository
+@RequiredArgsConstructor
+public class DashboardSnapshotRepository {
+    private static final String KEY_PREFIX = "dashboard-snapshot:";
+    private static final String VERSION_KEY_PREFIX = "dashboard-snapshot:version:";
+    private static final String ACTIVE_KEY = "dashboard-snapshot:active";
+    private static final String REFRESH_LOCK_KEY = "dashboard-snapshot:refresh-lock";
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final DashboardSnapshotProperties dashboardSnapshotProperties;
+
+    public Mono<DashboardSnapshot> find(String key) {
+        return reactiveBytesRedisTemplate.opsForValue().get(KEY_PREFIX + key)
+                .map(DashboardSnapshot::decode);
+    }
+
+    public Mono<DashboardSnapshot> save(String key, byte[] data) {
+        return reactiveBytesRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + key)
+                .map(version -> new DashboardSnapshot(version, Instant.now(), data))
+                .flatMap(snapshot -> reactiveBytesRedisTemplate.opsForValue()
+                        .set(KEY_PREFIX + key, snapshot.encode(), dashboardSnapshotProperties.getTtl())
+                        .thenReturn(snapshot));
+    }
+
+    // 개수를 넘으면 가장 오래전에 조회된 key 부터 제거하고, 조회가 끊기면 집합 전체가 만료됨
+    public Mono<Void> touch(String key) {
+        int maxActiveKeys = dashboardSnapshotProperties.getMaxActiveKeys();
+
+        return reactiveBytesRedisTemplate.opsForZSet()
+                .add(ACTIVE_KEY, key.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis())
+                .then(reactiveBytesRedisTemplate.opsForZSet().removeRange(ACTIVE_KEY, Range.closed(0L, -(maxActiveKeys + 1L))))
+                .then(reactiveBytesRedisTemplate.expire(ACTIVE_KEY, dashboardSnapshotProperties.getActiveWindow()))
+                .then();
+    }
+
+    public Mono<Void> untouch(String key) {
+        return reactiveBytesRedisTemplate.opsForZSet()
+                .remove(ACTIVE_KEY, key.getBytes(StandardCharsets.UTF_8))
+                .then();
+    }
+
+    // activeWindow 안에 조회된 key 목록 (오래된 key 는 정리)
+    public Flux<String> findActiveKeys(Duration activeWindow) {
+        double since = System.currentTimeMillis() - activeWindow.toMillis();
+
+        return reactiveBytesRedisTemplate.opsForZSet()
+                .removeRangeByScore(ACTIVE_KEY, Range.closed(0d, since))
+                .thenMany(reactiveBytesRedisTemplate.opsForZSet()
+                        .rangeByScore(ACTIVE_KEY, Range.closed(since, Double.MAX_VALUE)))
+                .map(member -> new String(member, StandardCharsets.UTF_8));
+    }
+
+    // 여러 노드 중 한 곳에서만 주기 갱신이 돌도록 잠금
+    public Mono<Boolean> tryLockRefresh(Duration lockTime) {
+        return reactiveBytesRedisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_LOCK_KEY, new byte[0], lockTime);
+    }
+}
@@ -0,0 +1,93 @@
+package com.aesopwow.subsubclipclop.domain.dashboard.service;
+
+import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
+import com.aesopwow.subsubclipclop.domain.dashboard.dto.DashboardSnapshot;
+import com.aesopwow.subsubclipclop.domain.dashboard.repository.DashboardSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+// 대시보드는 미리 계산된 스냅샷을 우선 반환하고, 없거나 fresh 요청이면 Python 서버에서 새로 계산
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+    // user_info, user_sub_info 는 테이블 이름 (key 구분자 ':' 가 들어가지 않도록 식별자 문자만 허용)
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_$]{1,64}");
+
+    private final ApiService apiService;
+    private final DashboardSnapshotRepository dashboardSnapshotRepository;
+
+    public Mono<DashboardSnapshot> getSnapshot(int infoDbNo, String userInfo, String userSubInfo, boolean fresh) {
+        if (infoDbNo == 0 || userInfo == null || userInfo.isBlank() || userSubInfo == null || userSubInfo.isBlank()) {
+            return Mono.error(new IllegalArgumentException("필수 파라미터가 누락되었습니다."));
+        }
+        if (!TABLE_NAME.matcher(userInfo).matches() || !TABLE_NAME.matcher(userSubInfo).matches()) {
+            return Mono.error(new IllegalArgumentException("잘못된 테이블 이름입니다."));
+        }
+
+        String key = snapshotKey(infoDbNo, userInfo, userSubInfo);
+
+        Mono<DashboardSnapshot> snapshot = fresh
+                ? refresh(infoDbNo, userInfo, userSubInfo)
+                : dashboardSnapshotRepository.find(key)
+                        .onErrorResume(e -> {
+                            log.warn("대시보드 스냅샷 조회 실패: {}", e.getMessage());
+                            return Mono.empty();
+                        })
+                        .switchIfEmpty(Mono.defer(() -> refresh(infoDbNo, userInfo, userSubInfo)));
+
+        // 계산에 성공한 대시보드만 주기 갱신 대상에 등록 (존재하지 않는 테이블 조합이 쌓이지 않도록)
+        return snapshot.doOnNext(ignored -> dashboardSnapshotRepository.touch(key)
+                .onErrorResume(e -> {
+                    log.warn("대시보드 스냅샷 조회 기록 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe());
+    }
+
+    // Python 서버에서 다시 계산해 새 버전으로 저장 (저장 실패 시에도 계산 결과는 반환)
+    public Mono<DashboardSnapshot> refresh(int infoDbNo, String userInfo, String userSubInfo) {
+        String key = snapshotKey(infoDbNo, userInfo, userSubInfo);
+
+        return apiService.getAnalysisResult(infoDbNo, userInfo, userSubInfo)
+                .flatMap(data -> dashboardSnapshotRepository.save(key, data)
+                        .onErrorResume(e -> {
+                            log.warn("대시보드 스냅샷 저장 실패: {}", e.getMessage());
+                            return Mono.just(new DashboardSnapshot(0, Instant.now(), data));
+                        }));
+    }
+
+    // key 형식: {infoDbNo}:{user_info}:{user_sub_info}, 형식이 맞지 않는 key 는 갱신 대상에서 제거
+    public Mono<DashboardSnapshot> refresh(String key) {
+        String[] parts = key.split(":", 3);
+        if (parts.length != 3 || !TABLE_NAME.matcher(parts[1]).matches() || !TABLE_NAME.matcher(parts[2]).matches()) {
+            return discard(key);
+        }
+        int infoDbNo;
+        try {
+            infoDbNo = Integer.parseInt(parts[0]);
+        } catch (NumberFormatException e) {
+            return discard(key);
+        }
+        if (infoDbNo == 0) {
+            return discard(key);
+        }
+        return refresh(infoDbNo, parts[1], parts[2]);
+    }
+
+    private Mono<DashboardSnapshot> discard(String key) {
+        log.warn("잘못된 대시보드 스냅샷 key 제거: {}", key);
+        return dashboardSnapshotRepository.untouch(key)
+                .onErrorResume(e -> Mono.empty())
+                .then(Mono.empty());
+    }
+
+    private String snapshotKey(int infoDbNo, String userInfo, String userSubInfo) {
+        return infoDbNo + ":" + userInfo + ":" + userSubInfo;
+    }
+}
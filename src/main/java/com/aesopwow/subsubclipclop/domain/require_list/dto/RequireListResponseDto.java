@@ -15,6 +15,7 @@ public class RequireListResponseDto {
     private Long analysisNo;
     private Long companyNo;
     private Long infoDbNo;
+    private RequireList.RequireListStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -23,6 +24,7 @@ public class RequireListResponseDto {
         this.analysisNo = requireList.getAnalysis().getAnalysisNo();
         this.companyNo = requireList.getCompany().getCompanyNo();
         this.infoDbNo = requireList.getInfoDb().getInfoDbNo();
+        this.status = requireList.getStatus();
         this.createdAt = requireList.getCreatedAt();
         this.updatedAt = requireList.getUpdatedAt();
     }
@@ -0,0 +1,14 @@
+package com.aesopwow.subsubclipclop.domain.require_list.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 분석 요청 저장(커밋) 후 작업 큐로 넘기기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class RequireListCreatedEvent {
+    private final Long requireListNo;
+    private final Long infoDbNo;
+    // 완료 알림 대상 (비로그인 요청이면 null)
+    private final Long userNo;
+}
@@ -0,0 +1,163 @@
+package com.aesopwow.subsubclipclop.domain.require_list.job;
+
+import com.aesopwow.subsubclipclop.config.AnalysisJobProperties;
+import com.aesopwow.subsubclipclop.domain.alarm.service.AlarmService;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiRequestDto;
+import com.aesopwow.subsubclipclop.domain.api.service.ApiService;
+import com.aesopwow.subsubclipclop.domain.require_list.event.RequireListCreatedEvent;
+import com.aesopwow.subsubclipclop.domain.require_list.service.RequireListService;
+import com.aesopwow.subsubclipclop.entity.RequireList;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 저장된 분석 요청을 워커 풀에서 Python 서버로 전달하고 상태(RUNNING/DONE/FAILED)를 갱신
+// 작업 큐는 메모리에만 있으므로 기동 시 DB 에 남은 미완료 요청을 다시 큐에 넣음
+@Slf4j
+@Component
+public class AnalysisJobDispatcher {
+    private final AnalysisJobProperties analysisJobProperties;
+    private final ApiService apiService;
+    private final RequireListService requireListService;
+    private final AlarmService alarmService;
+    private final TransactionTemplate requiresNewTransaction;
+    // 고정 크기 워커 + 제한된 대기 큐 (가득 차면 TaskRejectedException)
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+
+    public AnalysisJobDispatcher(AnalysisJobProperties analysisJobProperties,
+                                 ApiService apiService,
+                                 RequireListService requireListService,
+                                 AlarmService alarmService,
+                                 PlatformTransactionManager transactionManager,
+                                 Environment environment) {
+        this.analysisJobProperties = analysisJobProperties;
+        this.apiService = apiService;
+        this.requireListService = requireListService;
+        this.alarmService = alarmService;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisJobProperties.getWorkers());
+        executor.setMaxPoolSize(analysisJobProperties.getWorkers());
+        executor.setQueueCapacity(analysisJobProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("analysis-job-");
+        // 가상 스레드 모드에서도 워커 수(동시 Python 호출 수)와 대기 큐 제한은 그대로 유지
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        this.analysisJobExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisJobExecutor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequireListCreated(RequireListCreatedEvent event) {
+        try {
+            analysisJobExecutor.execute(() -> run(event));
+        } catch (TaskRejectedException e) {
+            log.warn("분석 작업 큐 포화로 요청 실패 처리: requireListNo={}", event.getRequireListNo());
+            finish(event, RequireList.RequireListStatus.FAILED);
+        }
+    }
+
+    // 종료 전에 큐에 있던 PENDING 요청과 처리 중 종료된 RUNNING 요청 복구
+    // 작업 큐 도입 이전의 요청은 요청 시점에 이미 분석되었으나 PENDING 으로 남아 있으므로 recover-created-after 이후 요청만 대상
+    // 다른 노드가 처리 중인 요청이 함께 들어와도 실행 전 claim 에서 한 번만 실행됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnfinished() {
+        LocalDateTime createdAfter = analysisJobProperties.getRecoverCreatedAfter();
+        if (createdAfter == null) {
+            log.info("analysis.job.recover-created-after 미설정으로 미완료 분석 요청 복구 생략");
+            return;
+        }
+        List<RequireListCreatedEvent> events;
+        try {
+            events = requireListService.recoverUnfinished(
+                    LocalDateTime.now().minus(analysisJobProperties.getStaleRunningAfter()), createdAfter);
+        } catch (Exception e) {
+            // 복구 실패로 기동을 막지 않음, 미완료 요청은 다음 기동 때 다시 복구
+            log.error("미완료 분석 요청 조회 실패: 원인={}", e.getMessage());
+            return;
+        }
+        if (!events.isEmpty()) {
+            log.info("미완료 분석 요청 {}건 작업 큐에 다시 등록", events.size());
+        }
+        // 큐가 가득 차면 나머지는 PENDING 으로 남겨 다음 기동 때 다시 시도 (다른 노드가 실행 중일 수 있으므로 FAILED 처리하지 않음)
+        for (int i = 0; i < events.size(); i++) {
+            RequireListCreatedEvent event = events.get(i);
+            try {
+                analysisJobExecutor.execute(() -> run(event));
+            } catch (TaskRejectedException e) {
+                log.warn("분석 작업 큐 포화로 미완료 요청 {}건 복구 보류", events.size() - i);
+                return;
+            }
+        }
+    }
+
+    private void run(RequireListCreatedEvent event) {
+        try {
+            if (!requireListService.claim(event.getRequireListNo())) {
+                log.debug("이미 처리 중이거나 완료된 분석 요청: requireListNo={}", event.getRequireListNo());
+                return;
+            }
+
+            apiService.requestAnalysis(new ApiRequestDto(event.getInfoDbNo()))
+                    .retryWhen(Retry.backoff(analysisJobProperties.getMaxRetries(), analysisJobProperties.getInitialBackoff())
+                            .maxBackoff(analysisJobProperties.getMaxBackoff())
+                            .filter(this::isRetryable)
+                            .doBeforeRetry(signal -> log.warn("분석 요청 재시도 {}회: requireListNo={}, 원인={}",
+                                    signal.totalRetries() + 1, event.getRequireListNo(), signal.failure().getMessage())))
+                    .block();
+            finish(event, RequireList.RequireListStatus.DONE);
+        } catch (Exception e) {
+            log.error("분석 요청 실패: requireListNo={}, 원인={}", event.getRequireListNo(), e.getMessage());
+            finish(event, RequireList.RequireListStatus.FAILED);
+        }
+    }
+
+    // 4xx(429 제외)는 요청 자체의 문제이므로 재시도하지 않음
+    private boolean isRetryable(Throwable e) {
+        return !(e instanceof WebClientResponseException responseException)
+                || !responseException.getStatusCode().is4xxClientError()
+                || responseException.getStatusCode().value() == 429;
+    }
+
+    // AFTER_COMMIT 리스너에서 호출되면 이미 커밋된 트랜잭션에 참여하게 되므로 항상 새 트랜잭션에서 처리
+    private void finish(RequireListCreatedEvent event, RequireList.RequireListStatus status) {
+        requiresNewTransaction.executeWithoutResult(
+                tx -> requireListService.updateStatus(event.getRequireListNo(), status));
+
+        if (event.getUserNo() == null) {
+            return;
+        }
+        String content = status == RequireList.RequireListStatus.DONE
+                ? "분석 요청(" + event.getRequireListNo() + ")이 완료되었습니다."
+                : "분석 요청(" + event.getRequireListNo() + ")이 실패했습니다.";
+        try {
+            requiresNewTransaction.executeWithoutResult(tx -> alarmService.sendAlarm(event.getUserNo(), content));
+        } catch (Exception e) {
+            log.warn("분석 완료 알림 전송 실패: userNo={}, 원인={}", event.getUserNo(), e.getMessage());
+        }
+    }
+}
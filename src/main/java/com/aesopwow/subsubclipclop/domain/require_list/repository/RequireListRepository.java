@@ -2,6 +2,35 @@ package com.aesopwow.subsubclipclop.domain.require_list.repository;
 
 import com.aesopwow.subsubclipclop.entity.RequireList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RequireListRepository extends JpaRepository<RequireList, Long> {
+
+    // 재기동 시 작업 큐로 다시 넘길 요청 (infoDb 는 이벤트 생성에 필요하므로 함께 조회)
+    @Query("select r from RequireList r join fetch r.infoDb where r.status = :status and r.createdAt > :createdAfter")
+    List<RequireList> findAllWithInfoDbByStatusCreatedAfter(@Param("status") RequireList.RequireListStatus status,
+                                                            @Param("createdAfter") LocalDateTime createdAfter);
+
+    // 상태가 from 인 경우에만 to 로 변경 (여러 노드에서 같은 요청을 동시에 실행하지 않도록 조건부 갱신)
+    @Modifying(clearAutomatically = true)
+    @Query("update RequireList r set r.status = :to, r.updatedAt = :now "
+            + "where r.requireListNo = :requireListNo and r.status = :from")
+    int updateStatusIf(@Param("requireListNo") Long requireListNo,
+                       @Param("from") RequireList.RequireListStatus from,
+                       @Param("to") RequireList.RequireListStatus to,
+                       @Param("now") LocalDateTime now);
+
+    // 처리 중이던 노드가 종료되어 오래 RUNNING 으로 남은 요청을 대기 상태로 되돌림
+    @Modifying(clearAutomatically = true)
+    @Query("update RequireList r set r.status = :pending, r.updatedAt = :now "
+            + "where r.status = :running and r.updatedAt < :staleBefore")
+    int resetStaleRunning(@Param("running") RequireList.RequireListStatus running,
+                          @Param("pending") RequireList.RequireListStatus pending,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("now") LocalDateTime now);
 }
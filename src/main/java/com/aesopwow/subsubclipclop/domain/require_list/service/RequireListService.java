@@ -2,9 +2,20 @@ package com.aesopwow.subsubclipclop.domain.require_list.service;
 
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListRequestDto;
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListResponseDto;
+import com.aesopwow.subsubclipclop.domain.require_list.event.RequireListCreatedEvent;
+import com.aesopwow.subsubclipclop.entity.RequireList;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RequireListService {
     public RequireListResponseDto getRequireList(Long requireListNo);
 
-    public RequireListResponseDto createRequireList(RequireListRequestDto requireListRequestDto);
+    public RequireListResponseDto createRequireList(RequireListRequestDto requireListRequestDto, Long userNo);
+
+    public void updateStatus(Long requireListNo, RequireList.RequireListStatus status);
+
+    public boolean claim(Long requireListNo);
+
+    public List<RequireListCreatedEvent> recoverUnfinished(LocalDateTime staleBefore, LocalDateTime createdAfter);
 }
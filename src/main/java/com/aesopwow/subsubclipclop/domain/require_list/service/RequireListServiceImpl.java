@@ -3,6 +3,7 @@ package com.aesopwow.subsubclipclop.domain.require_list.service;
 import com.aesopwow.subsubclipclop.domain.analysis.repository.AnalysisRepository;
 import com.aesopwow.subsubclipclop.domain.company.repository.CompanyRepository;
 import com.aesopwow.subsubclipclop.domain.info_db.repository.InfoDbRepository;
+import com.aesopwow.subsubclipclop.domain.require_list.event.RequireListCreatedEvent;
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListRequestDto;
 import com.aesopwow.subsubclipclop.domain.require_list.dto.RequireListResponseDto;
 import com.aesopwow.subsubclipclop.domain.require_list.repository.RequireListRepository;
@@ -13,9 +14,13 @@ import com.aesopwow.subsubclipclop.entity.RequireList;
 import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
 import com.aesopwow.subsubclipclop.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RequireListServiceImpl implements RequireListService {
@@ -23,6 +28,7 @@ public class RequireListServiceImpl implements RequireListService {
     private final CompanyRepository companyRepository;
     private final AnalysisRepository analysisRepository;
     private final InfoDbRepository infoDbRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -35,7 +41,7 @@ public class RequireListServiceImpl implements RequireListService {
 
     @Override
     @Transactional
-    public RequireListResponseDto createRequireList(RequireListRequestDto requireListRequestDto) {
+    public RequireListResponseDto createRequireList(RequireListRequestDto requireListRequestDto, Long userNo) {
         Analysis analysis = analysisRepository.findById(requireListRequestDto.getAnalysisNo())
                 .orElseThrow(() -> new CustomException(ErrorCode.ANALYSIS_NOT_FOUND));
 
@@ -53,6 +59,46 @@ public class RequireListServiceImpl implements RequireListService {
 
         requireListRepository.save(requireList);
 
+        // 커밋 이후 분석 작업 큐로 전달 (요청 스레드는 insert 까지만 수행)
+        eventPublisher.publishEvent(
+                new RequireListCreatedEvent(requireList.getRequireListNo(), infoDb.getInfoDbNo(), userNo));
+
         return new RequireListResponseDto(requireList);
     }
+
+    @Override
+    @Transactional
+    public void updateStatus(Long requireListNo, RequireList.RequireListStatus status) {
+        RequireList requireList = requireListRepository.findById(requireListNo)
+                .orElseThrow(() -> new CustomException(ErrorCode.REQUIRE_LIST_NOT_FOUND));
+
+        switch (status) {
+            case RUNNING -> requireList.markRunning();
+            case DONE -> requireList.markDone();
+            case FAILED -> requireList.markFailed();
+            default -> throw new IllegalArgumentException("변경할 수 없는 상태입니다: " + status);
+        }
+    }
+
+    // PENDING 인 요청만 RUNNING 으로 바꾸고 성공 여부 반환 (이미 다른 워커/노드가 가져갔으면 false)
+    @Override
+    @Transactional
+    public boolean claim(Long requireListNo) {
+        return requireListRepository.updateStatusIf(requireListNo, RequireList.RequireListStatus.PENDING,
+                RequireList.RequireListStatus.RUNNING, LocalDateTime.now()) > 0;
+    }
+
+    // 오래된 RUNNING 요청을 PENDING 으로 되돌린 뒤 createdAfter 이후 생성된 PENDING 요청을 반환 (완료 알림 대상은 저장되지 않으므로 userNo 없음)
+    @Override
+    @Transactional
+    public List<RequireListCreatedEvent> recoverUnfinished(LocalDateTime staleBefore, LocalDateTime createdAfter) {
+        requireListRepository.resetStaleRunning(RequireList.RequireListStatus.RUNNING,
+                RequireList.RequireListStatus.PENDING, staleBefore, LocalDateTime.now());
+
+        return requireListRepository.findAllWithInfoDbByStatusCreatedAfter(
+                        RequireList.RequireListStatus.PENDING, createdAfter).stream()
+                .map(requireList -> new RequireListCreatedEvent(
+                        requireList.getRequireListNo(), requireList.getInfoDb().getInfoDbNo(), null))
+                .toList();
+    }
 }
\ No newline at end of file
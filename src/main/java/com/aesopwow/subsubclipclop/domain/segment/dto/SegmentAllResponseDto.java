@@ -0,0 +1,14 @@
+package com.aesopwow.subsubclipclop.domain.segment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 네 가지 세그먼트 결과 묶음 (실패한 항목은 success=false)
+@Getter
+@AllArgsConstructor
+public class SegmentAllResponseDto {
+    private SegmentDto subscription;
+    private SegmentDto watchTime;
+    private SegmentDto lastLogin;
+    private SegmentDto genre;
+}
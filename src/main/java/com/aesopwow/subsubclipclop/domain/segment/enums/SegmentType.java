@@ -0,0 +1,17 @@
+package com.aesopwow.subsubclipclop.domain.segment.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 세그먼트 종류별 Python 서버 경로
+@Getter
+@RequiredArgsConstructor
+public enum SegmentType {
+    SUBSCRIPTION("/api/segment/subscription", "세그먼트 데이터 조회 실패"),
+    WATCH_TIME("/api/segment/watchtime", "CSV 저장 실패"),
+    LAST_LOGIN("/api/segment/lastlogin", "CSV 저장 실패"),
+    GENRE("/api/segment/genre", "CSV 저장 실패");
+
+    private final String path;
+    private final String errorMessage;
+}
@@ -1,197 +1,170 @@
 package com.aesopwow.subsubclipclop.domain.segment.service;
 
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.config.AnalyticsApiProperties;
+import com.aesopwow.subsubclipclop.domain.api.cache.FileListingCache;
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
+import com.aesopwow.subsubclipclop.domain.api.enums.AnalyticsEndpoint;
+import com.aesopwow.subsubclipclop.domain.api.support.AnalyticsCallGuard;
+import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentAllResponseDto;
 import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentFileListResponseDto;
 import com.aesopwow.subsubclipclop.domain.segment.dto.SegmentDto;
+import com.aesopwow.subsubclipclop.domain.segment.enums.SegmentType;
+import com.aesopwow.subsubclipclop.global.enums.ErrorCode;
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import com.aesopwow.subsubclipclop.global.util.CompressionUtil;
+import com.aesopwow.subsubclipclop.global.util.StreamingResponseUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SegmentService {
 
-    private static final String PYTHON_SUBSCRIPTION_SERVER_URL = "http://15.164.211.80:5001/api/segment/subscription";
-    private static final String PYTHON_WATCH_TIME_SERVER_URL = "http://15.164.211.80:5001/api/segment/watchtime";
-    private static final String PYTHON_LAST_LOGIN_SERVER_URL = "http://15.164.211.80:5001/api/segment/lastlogin";
-    private static final String PYTHON_GENRE_SERVER_URL = "http://15.164.211.80:5001/api/segment/genre";
-    private static final String PYTHON_LIST_URL = "http://15.164.211.80:5001/api/segment/list";
-    private static final String PYTHON_GET_CSV_URL = "http://15.164.211.80:5001/api/segment/list/";
+    private static final String PYTHON_LIST_PATH = "/api/segment/list";
+    private static final String PYTHON_GET_CSV_PATH = "/api/segment/list/";
 
-    // 구독타입 서비스
-    public SegmentDto segmentSubscription(
+    // Python 분석 서버 공용 커넥션 풀 클라이언트
+    private final WebClient webClient;
+    private final AnalyticsApiProperties analyticsApiProperties;
+    private final AnalysisCacheProperties analysisCacheProperties;
+    private final AnalyticsCallGuard callGuard;
+    private final FileListingCache fileListingCache;
+
+    // 세그먼트 계산 (종류별 경로만 다르고 요청/응답 형식은 동일)
+    public Mono<SegmentDto> segment(
+            SegmentType segmentType,
             int infoDbNo,
             String userInfo,
             String userSubInfo
     ) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PYTHON_SUBSCRIPTION_SERVER_URL)
-                .queryParam("info_db_no", infoDbNo)
-                .queryParam("user_info", userInfo)
-                .queryParam("user_sub_info", userSubInfo);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<SegmentDto> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                requestEntity,
-                SegmentDto.class
-        );
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("세그먼트 데이터 조회 실패: " + response.getStatusCode());
-        }
+        return callGuard.guard(AnalyticsEndpoint.SEGMENT, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(segmentType.getPath())
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("user_info", userInfo)
+                        .queryParam("user_sub_info", userSubInfo)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(SegmentDto.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SEGMENT)))
+                // 상태 코드는 서킷 브레이커가 판단한 뒤 메시지로 변환
+                .onErrorMap(WebClientResponseException.class,
+                        e -> new RuntimeException(segmentType.getErrorMessage() + ": " + e.getStatusCode(), e))
+                .switchIfEmpty(Mono.error(new RuntimeException(segmentType.getErrorMessage() + ": 응답 없음")))
+                // 세그먼트 CSV 가 새로 저장되었으므로 해당 InfoDb 의 목록 캐시 무효화
+                .flatMap(response -> fileListingCache.invalidate(FileListingCache.segmentPrefix(infoDbNo))
+                        .thenReturn(response));
     }
 
-    public SegmentDto segmentWatchTime(
+    // 네 가지 세그먼트를 동시에 계산 (응답 시간 = 가장 느린 하나), 실패한 항목은 success=false 로 채움
+    public Mono<SegmentAllResponseDto> segmentAll(
             int infoDbNo,
             String userInfo,
             String userSubInfo
     ) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PYTHON_WATCH_TIME_SERVER_URL)
-                .queryParam("info_db_no", infoDbNo)
-                .queryParam("user_info", userInfo)
-                .queryParam("user_sub_info", userSubInfo);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<SegmentDto> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                requestEntity,
-                SegmentDto.class
-        );
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("CSV 저장 실패: " + response.getStatusCode());
-        }
+        return Mono.zip(
+                        segmentOrFailed(SegmentType.SUBSCRIPTION, infoDbNo, userInfo, userSubInfo),
+                        segmentOrFailed(SegmentType.WATCH_TIME, infoDbNo, userInfo, userSubInfo),
+                        segmentOrFailed(SegmentType.LAST_LOGIN, infoDbNo, userInfo, userSubInfo),
+                        segmentOrFailed(SegmentType.GENRE, infoDbNo, userInfo, userSubInfo))
+                .map(results -> new SegmentAllResponseDto(
+                        results.getT1(), results.getT2(), results.getT3(), results.getT4()));
     }
 
-    public SegmentDto lastLoginSegment(
+    //S3에 저장된 세그먼트 CSV 파일 목록 조회 (목록 캐시 경유)
+    public Mono<SegmentFileListResponseDto> getSegmentFileList(
             int infoDbNo,
-            String userInfo,
-            String userSubInfo
+            String targetColumn
     ) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PYTHON_LAST_LOGIN_SERVER_URL)
-                .queryParam("info_db_no", infoDbNo)
-                .queryParam("user_info", userInfo)
-                .queryParam("user_sub_info", userSubInfo);
+        return fileListingCache.get(FileListingCache.segmentKey(infoDbNo, targetColumn),
+                        since -> listSegmentFiles(infoDbNo, targetColumn))
+                .map(files -> new SegmentFileListResponseDto(
+                        files.stream().map(ApiFileInfoResponseDto::getKey).toList()));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
+    // S3 CSV 파일을 byte[] 로 모으지 않고 DataBuffer 스트림으로 전달 (다른 분석 호출과 같이 보호, permit 은 응답 헤더 수신 시 반환)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getSegmentCsvFile(String s3Key, String range, String ifRange) {
+        return callGuard.guard(AnalyticsEndpoint.SEGMENT, webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(PYTHON_GET_CSV_PATH + s3Key).build())
+                // 부분 요청이 아니면 gzip 으로 받아 압축된 그대로 전달
+                .headers(headers -> {
+                    if (range != null && !range.isBlank()) {
+                        headers.set(HttpHeaders.RANGE, range);
+                        if (ifRange != null && !ifRange.isBlank()) {
+                            headers.set(HttpHeaders.IF_RANGE, ifRange);
+                        }
+                    } else {
+                        headers.set(HttpHeaders.ACCEPT_ENCODING, CompressionUtil.GZIP);
+                    }
+                })
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SEGMENT)))
+                // 상태 코드는 서킷 브레이커가 판단한 뒤 변환 (이미 변환된 예외는 그대로 전달)
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("CSV 파일 조회 실패: s3Key={}, 원인={}", s3Key, e.getMessage());
+                    return new CustomException(ErrorCode.ANALYSIS_API_CALL_FAILURE, e);
+                })
+                .map(response -> StreamingResponseUtil.withIdleTimeout(response, analyticsApiProperties.getStreamIdleTimeout()));
+    }
 
-        ResponseEntity<SegmentDto> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                requestEntity,
-                SegmentDto.class
-        );
+    // 서버 측 CSV 파싱용으로 파일 전체를 byte[] 로 조회 (maxEntrySize 초과 시 실패)
+    public Mono<byte[]> getSegmentCsvBytes(String s3Key) {
+        int maxBytes = (int) analysisCacheProperties.getMaxEntrySize().toBytes();
+
+        return getSegmentCsvFile(s3Key, null, null)
+                .flatMap(response -> DataBufferUtils.join(response.getBody(), maxBytes)
+                        .map(buffer -> {
+                            byte[] bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            DataBufferUtils.release(buffer);
+                            return CompressionUtil.isGzip(response.getHeaders()) ? CompressionUtil.gunzip(bytes) : bytes;
+                        }));
+    }
 
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("CSV 저장 실패: " + response.getStatusCode());
-        }
+    // 세그먼트 목록 응답에는 LastModified 가 없어 워터마크 없이 항상 전체 목록을 받음
+    private Mono<List<ApiFileInfoResponseDto>> listSegmentFiles(int infoDbNo, String targetColumn) {
+        return callGuard.guard(AnalyticsEndpoint.SEGMENT, webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(PYTHON_LIST_PATH)
+                        .queryParam("info_db_no", infoDbNo)
+                        .queryParam("target_column", targetColumn)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(SegmentFileListResponseDto.class)
+                .timeout(analyticsApiProperties.getTimeout(AnalyticsEndpoint.SEGMENT)))
+                .switchIfEmpty(Mono.error(new RuntimeException("S3 파일 목록 조회 실패: 응답 없음")))
+                .map(response -> response.getFiles() == null
+                        ? List.<ApiFileInfoResponseDto>of()
+                        : response.getFiles().stream()
+                                .map(key -> new ApiFileInfoResponseDto(key, null, 0L))
+                                .toList());
     }
 
-    public SegmentDto genreSegment(
+    private Mono<SegmentDto> segmentOrFailed(
+            SegmentType segmentType,
             int infoDbNo,
             String userInfo,
             String userSubInfo
     ) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PYTHON_GENRE_SERVER_URL)
-                .queryParam("info_db_no", infoDbNo)
-                .queryParam("user_info", userInfo)
-                .queryParam("user_sub_info", userSubInfo);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<SegmentDto> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                requestEntity,
-                SegmentDto.class
-        );
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("CSV 저장 실패: " + response.getStatusCode());
-        }
-    }
-
-    //S3에 저장된 세그먼트 CSV 파일 목록 조회
-    public SegmentFileListResponseDto getSegmentFileList(
-            int infoDbNo,
-            String targetColumn
-    ) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PYTHON_LIST_URL)
-                .queryParam("info_db_no", infoDbNo)
-                .queryParam("target_column", targetColumn);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<SegmentFileListResponseDto> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                requestEntity,
-                SegmentFileListResponseDto.class
-        );
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("S3 파일 목록 조회 실패: " + response.getStatusCode());
-        }
-    }
-    public Object getSegmentCsvFile(String s3Key) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        // Flask API 호출 URL 생성
-        String url = PYTHON_GET_CSV_URL + s3Key;
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<byte[]> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                requestEntity,
-                byte[].class
-        );
-        byte[] csvBytes = response.getBody();
-
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            return response.getBody();
-        } else {
-            throw new RuntimeException("CSV 파일 조회 실패: " + response.getStatusCode());
-        }
+        return segment(segmentType, infoDbNo, userInfo, userSubInfo)
+                .onErrorResume(e -> {
+                    log.warn("{} 세그먼트 계산 실패: {}", segmentType, e.getMessage());
+                    return Mono.just(new SegmentDto(false, null));
+                });
     }
 }
@@ -7,21 +7,34 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+// 인증 주체 (User 엔티티 대신 식별자만 보관)
+// 요청마다 JWT 클레임으로 만들어지므로 전체 User 정보가 필요하면 userNo 로 직접 조회
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final Long userNo;
+    private final String email;
+    private final Role.RoleType role;
+    private final Long companyNo;
+    private final Long infoDbNo;
 
-    public CustomUserDetails(User user) {
-        this.user = user;
+    public CustomUserDetails(Long userNo, String email, Role.RoleType role, Long companyNo, Long infoDbNo) {
+        this.userNo = userNo;
+        this.email = email;
+        this.role = role;
+        this.companyNo = companyNo;
+        this.infoDbNo = infoDbNo;
     }
 
-    public User getUser() {
-        return user;
+    public CustomUserDetails(User user) {
+        this(user.getUserNo(),
+                user.getEmail(),
+                user.getRole().getName(),
+                user.getCompany() != null ? user.getCompany().getCompanyNo() : null,
+                user.getInfoDb() != null ? user.getInfoDb().getInfoDbNo() : null);
     }
 
-
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getName().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -31,7 +44,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -55,6 +68,18 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public Long getUserNo() {
-        return user.getUserNo();
+        return userNo;
+    }
+
+    public Role.RoleType getRole() {
+        return role;
+    }
+
+    public Long getCompanyNo() {
+        return companyNo;
+    }
+
+    public Long getInfoDbNo() {
+        return infoDbNo;
     }
 }
@@ -33,7 +33,19 @@ public class RequireList extends BaseEntity {
     @Builder.Default
     private RequireList.RequireListStatus status = RequireList.RequireListStatus.PENDING;
 
+    public void markRunning() {
+        this.status = RequireListStatus.RUNNING;
+    }
+
+    public void markDone() {
+        this.status = RequireListStatus.DONE;
+    }
+
+    public void markFailed() {
+        this.status = RequireListStatus.FAILED;
+    }
+
     public enum RequireListStatus {
-        SUCCESS, FAIL, PENDING
+        PENDING, RUNNING, DONE, FAILED
     }
 }
@@ -36,10 +36,16 @@ public enum ErrorCode {
     //MARK: - Dashboard
     DASHBOARD_API_FAILED("E030", "대시보드 데이터를 가져오는 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR),
     DASHBOARD_UNKNOWN_ERROR("E031", "대시보드 데이터를 가져오는 중 알 수 없는 예외 발생", HttpStatus.INTERNAL_SERVER_ERROR),
+    ANALYSIS_API_BUSY("E039", "분석 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_CSV_QUERY("E040", "잘못된 CSV 조회 조건입니다.", HttpStatus.BAD_REQUEST),
+    CSV_PARSE_FAILURE("E041", "분석 결과 CSV 를 읽는 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_BATCH_REQUEST("E042", "일괄 분석 요청 항목이 비어 있거나 허용 개수를 초과했습니다.", HttpStatus.BAD_REQUEST),
     //MARK: - Unauthorized
     INVALID_PASSWORD("E021", "기존 비밀번호가 일치하지 않습니다.", HttpStatus.UNAUTHORIZED),
     //MARK: -
     ACCESS_TOKEN_INVALID("E900","유효하지 않은 토큰 값입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    REFRESH_TOKEN_INVALID("E901", "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_REUSED("E902", "이미 사용된 리프레시 토큰입니다. 보안을 위해 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
     //MARK: - Comment / QnA 관련
     COMMENT_NOT_FOUND("E032", "해당 문의글에 대한 답변이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
     DELETED_USER("E033", "탈퇴한 계정으로는 답변 작업을 할 수 없습니다.", HttpStatus.FORBIDDEN),
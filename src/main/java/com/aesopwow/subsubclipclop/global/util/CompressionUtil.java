@@ -0,0 +1,54 @@
+package com.aesopwow.subsubclipclop.global.util;
+
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+public final class CompressionUtil {
+    public static final String GZIP = "gzip";
+
+    private CompressionUtil() {
+    }
+
+    // Accept-Encoding 에 gzip(또는 *)이 q=0 이 아닌 값으로 포함되어 있는지
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.equals("q=0") || param.matches("q=0\\.0*")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isGzip(HttpHeaders headers) {
+        String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+        return contentEncoding != null && contentEncoding.trim().equalsIgnoreCase(GZIP);
+    }
+
+    public static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
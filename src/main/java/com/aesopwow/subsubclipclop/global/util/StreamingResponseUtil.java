@@ -0,0 +1,215 @@
+package com.aesopwow.subsubclipclop.global.util;
+
+import com.aesopwow.subsubclipclop.domain.api.cache.CachedResultFile;
+import com.aesopwow.subsubclipclop.domain.api.cache.OpenResultFile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+public final class StreamingResponseUtil {
+
+    // 업스트림 응답에서 클라이언트로 그대로 전달할 헤더
+    private static final List<String> PASS_THROUGH_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.ACCEPT_RANGES,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED
+    );
+
+    // 압축 해제 시 한 번에 요청할 DataBuffer 수
+    private static final int INFLATE_DEMAND = 16;
+
+    private StreamingResponseUtil() {
+    }
+
+    // 헤더에 걸린 timeout 은 본문에 적용되지 않으므로 청크 사이 대기 시간을 따로 제한 (멈춘 본문이 서블릿 스레드를 붙잡지 않도록)
+    public static ResponseEntity<Flux<DataBuffer>> withIdleTimeout(ResponseEntity<Flux<DataBuffer>> upstream, Duration idleTimeout) {
+        if (upstream.getBody() == null) {
+            return upstream;
+        }
+        return new ResponseEntity<>(upstream.getBody().timeout(idleTimeout), upstream.getHeaders(), upstream.getStatusCode());
+    }
+
+    public static ResponseEntity<StreamingResponseBody> toStreamingResponse(
+            ResponseEntity<Flux<DataBuffer>> upstream,
+            MediaType contentType,
+            String filename) {
+        return toStreamingResponse(upstream, contentType, filename, false);
+    }
+
+    // WebClient 로 받은 DataBuffer 를 청크 단위로 서블릿 출력 스트림에 쓰고 바로 release (파일 크기와 무관하게 힙 사용량 일정)
+    // 업스트림이 gzip 이면 gzip 을 받는 클라이언트에는 압축된 그대로 전달하고, 아니면 스트림으로 풀어서 전달
+    public static ResponseEntity<StreamingResponseBody> toStreamingResponse(
+            ResponseEntity<Flux<DataBuffer>> upstream,
+            MediaType contentType,
+            String filename,
+            boolean clientAcceptsGzip) {
+        boolean upstreamGzip = CompressionUtil.isGzip(upstream.getHeaders());
+        boolean inflate = upstreamGzip && !clientAcceptsGzip;
+
+        HttpHeaders headers = new HttpHeaders();
+        PASS_THROUGH_HEADERS.forEach(name -> {
+            List<String> values = upstream.getHeaders().get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        });
+        if (inflate) {
+            // 풀린 크기는 알 수 없고, 업스트림 ETag 는 압축본 기준이라 풀어서 보낼 때는 전달하지 않음
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.remove(HttpHeaders.ETAG);
+        } else if (upstreamGzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, CompressionUtil.GZIP);
+        }
+        if (upstreamGzip) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        }
+        headers.setContentType(contentType);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+
+        Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+        StreamingResponseBody streamingBody = inflate
+                ? outputStream -> {
+                    try (InputStream in = new GZIPInputStream(DataBufferUtils.subscriberInputStream(body, INFLATE_DEMAND))) {
+                        in.transferTo(outputStream);
+                    }
+                }
+                : outputStream -> DataBufferUtils.write(body, outputStream)
+                        .map(DataBufferUtils::release)
+                        .blockLast();
+
+        return ResponseEntity.status(upstream.getStatusCode())
+                .headers(headers)
+                .body(streamingBody);
+    }
+
+    // 디스크 캐시 파일로 응답 (If-Range 가 일치하는 Range 요청은 206, 전체 요청은 gzip 을 받으면 압축본), 다 쓰면 파일을 닫음
+    public static ResponseEntity<StreamingResponseBody> toFileResponse(
+            OpenResultFile openFile,
+            MediaType contentType,
+            String filename,
+            boolean clientAcceptsGzip,
+            String range,
+            String ifRange) {
+        CachedResultFile file = openFile.getFile();
+        HttpHeaders headers = new HttpHeaders();
+        if (file.getLastModified() != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, file.getLastModified());
+        }
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (file.hasGzip()) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        }
+        headers.setContentType(contentType);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+
+        if (range != null && !range.isBlank() && ifRangeMatches(file, ifRange)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // 다중 Range 는 지원하지 않고 전체 파일로 응답 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                long start;
+                long end;
+                try {
+                    start = ranges.get(0).getRangeStart(file.getSize());
+                    end = ranges.get(0).getRangeEnd(file.getSize());
+                } catch (IllegalArgumentException e) {
+                    closeQuietly(openFile);
+                    headers.set(HttpHeaders.ETAG, file.getEtag());
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + file.getSize());
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+                }
+
+                long length = end - start + 1;
+                headers.set(HttpHeaders.ETAG, file.getEtag());
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.getSize());
+                headers.setContentLength(length);
+                StreamingResponseBody streamingBody = outputStream -> {
+                    try (openFile) {
+                        transfer(openFile.getChannel(), start, length, outputStream);
+                    }
+                };
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).body(streamingBody);
+            }
+        }
+
+        boolean gzip = file.hasGzip() && clientAcceptsGzip;
+        FileChannel channel = gzip ? openFile.getGzipChannel() : openFile.getChannel();
+        long length = gzip ? file.getGzipSize() : file.getSize();
+        // 강한 ETag 는 표현(바이트)마다 달라야 하므로 압축본에는 별도 ETag 사용
+        headers.set(HttpHeaders.ETAG, gzip ? gzipEtag(file.getEtag()) : file.getEtag());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, CompressionUtil.GZIP);
+        }
+        headers.setContentLength(length);
+
+        StreamingResponseBody streamingBody = outputStream -> {
+            try (openFile) {
+                transfer(channel, 0, length, outputStream);
+            }
+        };
+        return ResponseEntity.ok().headers(headers).body(streamingBody);
+    }
+
+    // "abc" -> "abc-gz"
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private static void transfer(FileChannel channel, long start, long length, OutputStream outputStream)
+            throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long position = start;
+        long remaining = length;
+        while (remaining > 0) {
+            long written = channel.transferTo(position, remaining, target);
+            if (written <= 0) {
+                break;
+            }
+            position += written;
+            remaining -= written;
+        }
+    }
+
+    private static void closeQuietly(OpenResultFile openFile) {
+        try {
+            openFile.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 채널이라 닫기 실패는 무시
+        }
+    }
+
+    // If-Range 가 없으면 항상 Range 적용, ETag 형식이면 강한 비교, 날짜 형식이면 Last-Modified 와 일치해야 적용
+    private static boolean ifRangeMatches(CachedResultFile file, String ifRange) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return !value.startsWith("W/") && value.equals(file.getEtag());
+        }
+        return value.equals(file.getLastModified());
+    }
+}
@@ -0,0 +1,230 @@
+package com.aesopwow.subsubclipclop.controller;
+
+import com.aesopwow.subsubclipclop.config.AnalysisCacheProperties;
+import com.aesopwow.subsubclipclop.domain.api.cache.OpenResultFile;
+import com.aesopwow.subsubclipclop.domain.api.cache.ResultFileCache;
+import com.aesopwow.subsubclipclop.domain.api.csv.CsvTableService;
+import com.aesopwow.subsubclipclop.domain.segment.service.SegmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// CSV 다운로드가 디스크 캐시 적중/미스 모두 StreamingResponseBody 로 응답되는지 확인
+class SegmentControllerTest {
+    private static final String S3_KEY = "segments/1/watch_time.csv";
+    private static final String CSV = "user_no,segment\n1,A\n2,B\n";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private SegmentService segmentService;
+    private ResultFileCache resultFileCache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AnalysisCacheProperties properties = new AnalysisCacheProperties();
+        properties.setFileCacheDirectory(cacheDirectory.toString());
+        resultFileCache = new ResultFileCache(properties);
+        ReflectionTestUtils.invokeMethod(resultFileCache, "init");
+
+        segmentService = mock(SegmentService.class);
+        given(segmentService.getSegmentCsvFile(eq(S3_KEY), any(), any()))
+                .willReturn(Mono.fromSupplier(() -> upstream(CSV)));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new SegmentController(segmentService, mock(CsvTableService.class), resultFileCache))
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시 미스: 업스트림 응답을 그대로 스트리밍하고, 이후 요청은 디스크 캐시에서 응답")
+    void streamsUpstreamOnMissAndServesFromDiskOnHit() throws Exception {
+        MockHttpServletResponse miss = download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+
+        assertThat(miss.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(miss.getContentAsString()).isEqualTo(CSV);
+        assertThat(miss.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("watch_time.csv");
+
+        awaitCached();
+        MockHttpServletResponse hit = download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+
+        assertThat(hit.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(hit.getContentAsString()).isEqualTo(CSV);
+        assertThat(hit.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(hit.getContentLengthLong()).isEqualTo(CSV.length());
+        verify(segmentService, times(1)).getSegmentCsvFile(eq(S3_KEY), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 단일 Range 는 206 으로 잘라서 응답")
+    void servesSingleRangeFromDisk() throws Exception {
+        download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+        awaitCached();
+
+        MockHttpServletResponse partial = download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.RANGE, "bytes=0-6"));
+
+        assertThat(partial.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(partial.getContentAsString()).isEqualTo(CSV.substring(0, 7));
+        assertThat(partial.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-6/" + CSV.length());
+    }
+
+    @Test
+    @DisplayName("캐시 적중: If-Range 가 일치하지 않거나 다중 Range 면 전체 파일을 200 으로 응답")
+    void fallsBackToFullResponseWhenRangeIsIgnored() throws Exception {
+        download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+        awaitCached();
+
+        MockHttpServletResponse staleIfRange = download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.RANGE, "bytes=0-6")
+                .header(HttpHeaders.IF_RANGE, "\"stale\""));
+        MockHttpServletResponse multiRange = download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.RANGE, "bytes=0-1,4-5"));
+
+        for (MockHttpServletResponse response : List.of(staleIfRange, multiRange)) {
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.getContentAsString()).isEqualTo(CSV);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 범위를 벗어난 Range 는 416")
+    void rejectsUnsatisfiableRange() throws Exception {
+        download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+        awaitCached();
+
+        MockHttpServletResponse response = download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.RANGE, "bytes=1000-"));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + CSV.length());
+    }
+
+    @Test
+    @DisplayName("캐시 적중: gzip 압축본과 원본은 서로 다른 강한 ETag 로 응답")
+    void usesDistinctEtagsForGzipAndIdentity() throws Exception {
+        given(segmentService.getSegmentCsvFile(eq(S3_KEY), any(), any()))
+                .willReturn(Mono.fromSupplier(() -> gzipUpstream(CSV)));
+        download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        awaitCached();
+
+        MockHttpServletResponse gzip = download(get("/api/segment/list/file").param("s3Key", S3_KEY)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        MockHttpServletResponse identity = download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getContentAsString()).isEqualTo(CSV);
+        assertThat(gzip.getHeader(HttpHeaders.ETAG))
+                .isEqualTo(identity.getHeader(HttpHeaders.ETAG).replaceAll("\"$", "-gz\""));
+    }
+
+    @Test
+    @DisplayName("캐시 적중 응답을 만든 뒤 파일이 제거되어도 이미 연 파일로 끝까지 응답")
+    void completesResponseWhenEvictedBeforeBodyIsWritten() throws Exception {
+        download(get("/api/segment/list/file").param("s3Key", S3_KEY));
+        awaitCached();
+
+        MvcResult started = start(get("/api/segment/list/file").param("s3Key", S3_KEY));
+        resultFileCache.evict(ResultFileCache.segmentFileKey(S3_KEY));
+        MockHttpServletResponse hit = finish(started);
+
+        assertThat(hit.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(hit.getContentAsString()).isEqualTo(CSV);
+        verify(segmentService, times(1)).getSegmentCsvFile(eq(S3_KEY), any(), any());
+    }
+
+    private MockHttpServletResponse download(MockHttpServletRequestBuilder builder) throws Exception {
+        return finish(start(builder));
+    }
+
+    // Mono 결과로 한 번, StreamingResponseBody 실행으로 한 번 더 비동기 처리되므로 둘 다 기다림
+    private MvcResult start(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        result.getAsyncResult(5_000);
+        return result;
+    }
+
+    private MockHttpServletResponse finish(MvcResult result) throws Exception {
+        MvcResult dispatched = mockMvc.perform(asyncDispatch(result)).andReturn();
+        if (dispatched.getRequest().isAsyncStarted()) {
+            dispatched.getAsyncResult(5_000);
+        }
+        return dispatched.getResponse();
+    }
+
+    // 디스크 캐시 등록은 응답 완료 후 boundedElastic 에서 비동기로 처리됨
+    private void awaitCached() throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            Optional<OpenResultFile> cached = resultFileCache.open(ResultFileCache.segmentFileKey(S3_KEY));
+            if (cached.isPresent()) {
+                cached.get().close();
+                return;
+            }
+            assertThat(System.currentTimeMillis()).as("디스크 캐시 등록 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> upstream(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("text/csv"));
+        headers.setContentLength(bytes.length);
+        return new ResponseEntity<>(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)), headers, HttpStatus.OK);
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> gzipUpstream(String body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = compressed.toByteArray();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("text/csv"));
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        headers.setContentLength(bytes.length);
+        return new ResponseEntity<>(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)), headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,67 @@
+package com.aesopwow.subsubclipclop.domain.api.cache;
+
+import com.aesopwow.subsubclipclop.domain.api.dto.ApiFileInfoResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// LastModified 워터마크는 문자열 순서가 아니라 시각 순서로 계산
+class FileListingTest {
+
+    @Test
+    @DisplayName("RFC 1123 형식은 요일/일자 문자열 순서와 관계없이 가장 늦은 시각을 워터마크로 사용")
+    void picksLatestRfc1123Date() {
+        // 문자열로는 "Wed, 02 ..." 가 더 크지만 시각으로는 29일이 더 늦음
+        FileListing listing = FileListing.full(List.of(
+                file("a.csv", "Tue, 29 Apr 2025 10:00:00 GMT"),
+                file("b.csv", "Wed, 02 Apr 2025 10:00:00 GMT")));
+
+        assertThat(listing.getWatermark()).isEqualTo(Instant.parse("2025-04-29T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("오프셋이 다른 ISO-8601 값은 UTC 시각으로 비교")
+    void comparesMixedOffsetsByInstant() {
+        // 문자열로는 "T10:00" 이 더 크지만 UTC 로는 01:00 이므로 05:00Z 가 더 늦음
+        FileListing listing = FileListing.full(List.of(
+                file("a.csv", "2025-04-29T10:00:00+09:00"),
+                file("b.csv", "2025-04-29 05:00:00+00:00"),
+                file("c.csv", null)));
+
+        assertThat(listing.getWatermark()).isEqualTo(Instant.parse("2025-04-29T05:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 LastModified 는 워터마크 계산에서 제외")
+    void ignoresUnparseableDates() {
+        FileListing listing = FileListing.full(List.of(
+                file("a.csv", "yesterday"),
+                file("b.csv", "2025-04-29T05:00:00Z")));
+
+        assertThat(listing.getWatermark()).isEqualTo(Instant.parse("2025-04-29T05:00:00Z"));
+        assertThat(FileListing.full(List.of(file("a.csv", "yesterday"))).getWatermark()).isNull();
+    }
+
+    @Test
+    @DisplayName("변경분 병합 시 같은 key 는 새 값으로 교체하고 워터마크를 다시 계산")
+    void mergeReplacesSameKeyAndAdvancesWatermark() {
+        FileListing listing = FileListing.full(List.of(
+                file("a.csv", "2025-04-01T00:00:00Z"),
+                file("b.csv", "2025-04-02T00:00:00Z")));
+
+        FileListing merged = listing.merge(List.of(
+                file("b.csv", "Tue, 29 Apr 2025 10:00:00 GMT"),
+                file("c.csv", "2025-04-03T00:00:00Z")));
+
+        assertThat(merged.getFiles()).extracting(ApiFileInfoResponseDto::getKey).containsExactly("a.csv", "b.csv", "c.csv");
+        assertThat(merged.getWatermark()).isEqualTo(Instant.parse("2025-04-29T10:00:00Z"));
+    }
+
+    private static ApiFileInfoResponseDto file(String key, String lastModified) {
+        return new ApiFileInfoResponseDto(key, lastModified, 0L);
+    }
+}
@@ -0,0 +1,142 @@
+package com.aesopwow.subsubclipclop.domain.api.cohort;
+
+import com.aesopwow.subsubclipclop.config.CohortStoreProperties;
+import com.aesopwow.subsubclipclop.domain.api.csv.CsvParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 저장된 확정 행과 start_date 이후 결과(delta)의 병합 확인
+class CohortRowStoreTest {
+    private static final String KEY = CohortRowStore.key(1L, "retention", "user", "sub");
+    private static final String REDIS_KEY = "cohort-rows:" + KEY;
+    // horizonMonths = 12 이므로 2024-06 이하 코호트 월이 확정
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 6, 15);
+
+    private static final String STORED = """
+            cohort_month,0,1,2,3
+            2024-01,100,80,60,50
+            2024-02,100,70,50,40
+            2024-03,100,90,70,60
+            """;
+
+    private ReactiveValueOperations<String, byte[]> valueOperations;
+    private CohortRowStore cohortRowStore;
+    private final List<LocalDate> requestedStartDates = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveRedisTemplate<String, byte[]> template = mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        given(template.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(REDIS_KEY)).willReturn(Mono.just(bytes(STORED)));
+        given(valueOperations.set(anyString(), any(byte[].class), any(Duration.class))).willReturn(Mono.just(true));
+
+        cohortRowStore = new CohortRowStore(template, new CohortStoreProperties());
+    }
+
+    @Test
+    @DisplayName("delta 헤더가 저장된 헤더의 앞부분이면 한 번의 요청으로 병합하고 짧은 행은 빈 값으로 채움")
+    void mergesDeltaWithFewerPeriodColumns() {
+        String delta = """
+                cohort_month,0,1
+                2024-04,100,85
+                2024-05,100
+                """;
+
+        List<List<String>> result = CsvParser.parseRecords(cohortRowStore.compute(KEY, TARGET_DATE, fetcher(delta)).block());
+
+        assertThat(requestedStartDates).containsExactly(LocalDate.of(2024, 4, 1));
+        assertThat(result).containsExactly(
+                List.of("cohort_month", "0", "1", "2", "3"),
+                List.of("2024-01", "100", "80", "60", "50"),
+                List.of("2024-02", "100", "70", "50", "40"),
+                List.of("2024-03", "100", "90", "70", "60"),
+                List.of("2024-04", "100", "85", "", ""),
+                List.of("2024-05", "100", "", "", ""));
+
+        // 새로 확정된 2024-04, 2024-05 까지 저장
+        ArgumentCaptor<byte[]> saved = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq(REDIS_KEY), saved.capture(), any(Duration.class));
+        assertThat(CsvParser.parseRecords(saved.getValue())).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("start_date 를 무시하고 전체 기간이 와도 같은 코호트 월은 새 행으로 덮어씀")
+    void mergesFullResponseWithMorePeriodColumns() {
+        String full = """
+                cohort_month,0,1,2,3,4
+                2024-01,100,80,60,50,45
+                2024-04,100,85,65,55,
+                """;
+
+        List<List<String>> result = CsvParser.parseRecords(cohortRowStore.compute(KEY, TARGET_DATE, fetcher(full)).block());
+
+        assertThat(requestedStartDates).containsExactly(LocalDate.of(2024, 4, 1));
+        assertThat(result).containsExactly(
+                List.of("cohort_month", "0", "1", "2", "3", "4"),
+                List.of("2024-01", "100", "80", "60", "50", "45"),
+                List.of("2024-02", "100", "70", "50", "40", ""),
+                List.of("2024-03", "100", "90", "70", "60", ""),
+                List.of("2024-04", "100", "85", "65", "55", ""));
+    }
+
+    @Test
+    @DisplayName("컬럼 이름이 다르면 저장된 이력을 버리고 전체 기간을 다시 요청")
+    void recomputesWhenHeaderChanges() {
+        String delta = """
+                cohort_month,period_0,period_1
+                2024-04,100,85
+                """;
+
+        cohortRowStore.compute(KEY, TARGET_DATE, fetcher(delta)).block();
+
+        assertThat(requestedStartDates).containsExactly(LocalDate.of(2024, 4, 1), null);
+    }
+
+    @Test
+    @DisplayName("새로 확정된 코호트 월이 없으면 저장하지 않음")
+    void skipsSaveWithoutNewFinalRows() {
+        String delta = """
+                cohort_month,0
+                2025-01,100
+                """;
+
+        List<List<String>> result = CsvParser.parseRecords(cohortRowStore.compute(KEY, TARGET_DATE, fetcher(delta)).block());
+
+        assertThat(result).hasSize(5);
+        verify(valueOperations, never()).set(anyString(), any(byte[].class), any(Duration.class));
+    }
+
+    private Function<LocalDate, Mono<byte[]>> fetcher(String response) {
+        return startDate -> {
+            requestedStartDates.add(startDate);
+            return Mono.just(bytes(response));
+        };
+    }
+
+    private static byte[] bytes(String csv) {
+        return csv.getBytes(StandardCharsets.UTF_8);
+    }
+}
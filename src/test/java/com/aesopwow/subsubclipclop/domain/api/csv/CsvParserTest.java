@@ -0,0 +1,135 @@
+package com.aesopwow.subsubclipclop.domain.api.csv;
+
+import com.aesopwow.subsubclipclop.global.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// CSV 파싱(따옴표, BOM, 줄바꿈), 컬럼 타입 추론, 행 필터 확인
+class CsvParserTest {
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 이스케이프된 따옴표, 줄바꿈을 값으로 읽음")
+    void parsesQuotedFields() {
+        ColumnarTable table = parse("name,memo\n\"Kim, J\",\"say \"\"hi\"\"\nbye\"\nLee,plain\n");
+
+        assertThat(table.getRowCount()).isEqualTo(2);
+        assertThat(table.getColumn("name").getValue(0)).isEqualTo("Kim, J");
+        assertThat(table.getColumn("memo").getValue(0)).isEqualTo("say \"hi\"\nbye");
+        assertThat(table.getColumn("memo").getValue(1)).isEqualTo("plain");
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM 과 CRLF 줄바꿈을 처리하고 빈 줄은 건너뜀")
+    void handlesBomCrlfAndBlankLines() {
+        ColumnarTable table = parse("\uFEFFid,name\r\n1,a\r\n\r\n2,b\r\n");
+
+        assertThat(table.getColumnNames()).containsExactly("id", "name");
+        assertThat(table.getRowCount()).isEqualTo(2);
+        assertThat(table.getColumn("id").getType()).isEqualTo(CsvColumnType.LONG);
+        assertThat(table.getColumn("name").getValue(1)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("빈 값과 모자란 필드는 null")
+    void treatsEmptyAndMissingFieldsAsNull() {
+        ColumnarTable table = parse("id,score,name\n1,,a\n2,1.5\n");
+
+        assertThat(table.getColumn("score").getType()).isEqualTo(CsvColumnType.DOUBLE);
+        assertThat(table.getColumn("score").getValue(0)).isNull();
+        assertThat(table.getColumn("name").getValue(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("정수 -> LONG, 실수 -> DOUBLE, 그 외 STRING")
+    void infersNumericTypes() {
+        ColumnarTable table = parse("id,ratio,amount,label\n1,0.5,-3,a\n2,2,1e3,1\n3,-0.25,+7,\n");
+
+        assertThat(table.getColumn("id").getType()).isEqualTo(CsvColumnType.LONG);
+        assertThat(table.getColumn("ratio").getType()).isEqualTo(CsvColumnType.DOUBLE);
+        assertThat(table.getColumn("amount").getType()).isEqualTo(CsvColumnType.DOUBLE);
+        assertThat(table.getColumn("amount").getValue(1)).isEqualTo(1000.0);
+        assertThat(table.getColumn("label").getType()).isEqualTo(CsvColumnType.STRING);
+    }
+
+    @Test
+    @DisplayName("앞자리를 0 으로 채운 값은 문자열로 유지")
+    void keepsZeroPaddedValuesAsStrings() {
+        ColumnarTable table = parse("zip,code,zero\n007,00.5,0\n123,1.5,0.5\n");
+
+        assertThat(table.getColumn("zip").getType()).isEqualTo(CsvColumnType.STRING);
+        assertThat(table.getColumn("zip").getValue(0)).isEqualTo("007");
+        assertThat(table.getColumn("code").getType()).isEqualTo(CsvColumnType.STRING);
+        assertThat(table.getColumn("zero").getType()).isEqualTo(CsvColumnType.DOUBLE);
+    }
+
+    @Test
+    @DisplayName("NaN, Infinity, 범위를 넘는 지수, 16진수, f/d 접미사는 숫자로 보지 않음")
+    void rejectsNonFiniteAndJavaOnlyNumberSyntax() {
+        ColumnarTable table = parse("a,b,c,d,e\nNaN,Infinity,1e400,0x1p3,1.5d\n1,2,3,4,5\n");
+
+        for (String name : List.of("a", "b", "c", "d", "e")) {
+            assertThat(table.getColumn(name).getType()).as(name).isEqualTo(CsvColumnType.STRING);
+        }
+        assertThat(table.getColumn("a").getValue(0)).isEqualTo("NaN");
+    }
+
+    @Test
+    @DisplayName("레코드 단위 파싱과 직렬화는 따옴표가 필요한 값을 보존")
+    void roundTripsRecords() {
+        List<List<String>> records = List.of(
+                List.of("name", "memo"),
+                List.of("Kim, J", "say \"hi\""),
+                List.of("Lee", ""));
+
+        assertThat(CsvParser.parseRecords(CsvParser.write(records))).isEqualTo(records);
+    }
+
+    @Test
+    @DisplayName("숫자 컬럼은 숫자로 비교하고 null 행은 제외")
+    void filtersNumericColumns() {
+        ColumnarTable table = parse("id,score\n1,0.5\n2,\n3,2.5\n10,1.5\n");
+
+        assertThat(filter(table, "id:gt:2")).containsExactly(2, 3);
+        assertThat(filter(table, "id:lte:1.5")).containsExactly(0);
+        assertThat(filter(table, "score:gte:1.5")).containsExactly(2, 3);
+        assertThat(filter(table, "score:ne:0.5")).containsExactly(2, 3);
+        assertThat(filter(table, "id:gt:1", "score:lt:2")).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("문자열 컬럼은 사전 값으로 비교")
+    void filtersStringColumns() {
+        ColumnarTable table = parse("zip,name\n007,kim\n010,lee\n007,park\n,choi\n");
+
+        assertThat(filter(table, "zip:eq:007")).containsExactly(0, 2);
+        assertThat(filter(table, "zip:eq:7")).isEmpty();
+        assertThat(filter(table, "name:contains:e")).containsExactly(1);
+        assertThat(filter(table, "name:gt:lee")).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 필터 형식, 연산자, 컬럼, 숫자 값은 INVALID_CSV_QUERY")
+    void rejectsInvalidFilters() {
+        ColumnarTable table = parse("id\n1\n");
+
+        assertThatThrownBy(() -> CsvFilter.parse("id:gt")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CsvFilter.parse("id:like:1")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> filter(table, "missing:eq:1")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> filter(table, "id:gt:abc")).isInstanceOf(CustomException.class);
+    }
+
+    private static ColumnarTable parse(String csv) {
+        return CsvParser.parse(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int[] filter(ColumnarTable table, String... expressions) {
+        return table.filter(Arrays.stream(expressions).map(CsvFilter::parse).toList());
+    }
+}
@@ -0,0 +1,156 @@
+package com.aesopwow.subsubclipclop.loadtest;
+
+import com.aesopwow.subsubclipclop.domain.analysis.service.AnalysisService;
+import com.aesopwow.subsubclipclop.entity.Analysis;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+// 느린 분석 서버에 대한 동시 요청을 실제 /api/analysis/cohort 엔드포인트로 보내는 부하 테스트
+// 컨트롤러 -> ApiServiceImpl -> AnalyticsCallGuard -> WebClient -> StreamingResponseUtil 경로를 그대로 거치고, 분석 서버만 MockWebServer 로 대체
+// SubsubclipclopApplicationTests 와 같이 dev 프로필의 MariaDB/Redis 가 필요
+// 기본 test 태스크에서는 제외, ./gradlew loadTest -Dloadtest.requests=5000 -Dloadtest.virtual-threads=false 처럼 실행
+// (동시 연결 수만큼 파일 디스크립터가 필요하므로 요청 수를 늘릴 때는 ulimit -n 확인)
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("dev")
+class VirtualThreadLoadTest {
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2000);
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(Long.getLong("loadtest.delay-ms", 1000));
+    private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "true"));
+    // 워커 풀 고갈이 드러나도록 Tomcat 워커 수를 작게 설정
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.tomcat-threads", 20);
+    // 부하 중에도 이 시간 안에 health 응답이 와야 워커 풀이 남아 있는 것으로 봄
+    private static final Duration PROBE_LIMIT = Duration.ofMillis(Long.getLong("loadtest.probe-limit-ms", 2000));
+    private static final String CSV = "cohort_month,0,1\n2025-01,100,80\n";
+
+    private static final MockWebServer upstream = startUpstream();
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private AnalysisService analysisService;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("analytics.api.base-url", () -> upstream.url("/").toString());
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        registry.add("server.tomcat.threads.max", () -> TOMCAT_THREADS);
+        registry.add("server.tomcat.threads.min-spare", () -> TOMCAT_THREADS);
+        registry.add("server.tomcat.accept-count", () -> REQUESTS);
+    }
+
+    @AfterAll
+    static void shutdownUpstream() throws IOException {
+        upstream.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(analysisService.getAnalysisByNo(anyLong()))
+                .willReturn(Analysis.builder().analysisNo(1L).name("cohort-retention").build());
+    }
+
+    @Test
+    @DisplayName("느린 분석 서버로 가는 동시 요청이 많아도 모두 제한 시간 안에 끝나고 워커 풀이 고갈되지 않음")
+    void concurrentSlowAnalyticsRequestsDoNotExhaustWorkerPool() throws Exception {
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                // 파일명을 모두 다르게 해서 결과 캐시와 동일 요청 병합을 거치지 않음
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/analysis/cohort?infoDbNo=1&analysisNo=1&filename=load-" + i + ".csv")).build();
+                responses.add(clients.submit(() -> client.send(request, HttpResponse.BodyHandlers.ofString())));
+            }
+
+            // 요청이 모두 들어가 업스트림 응답을 기다리는 동안 다른 요청이 처리되는지 확인
+            Thread.sleep(UPSTREAM_DELAY.dividedBy(2).toMillis());
+            long probeStart = System.nanoTime();
+            HttpResponse<String> probe = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Duration probeTime = Duration.ofNanos(System.nanoTime() - probeStart);
+
+            int ok = 0;
+            int rejected = 0;
+            for (Future<HttpResponse<String>> future : responses) {
+                HttpResponse<String> response = future.get(2, TimeUnit.MINUTES);
+                if (response.statusCode() == 200) {
+                    assertThat(response.body()).isEqualTo(CSV);
+                    ok++;
+                } else {
+                    // 벌크헤드/동시성 제한에 걸린 요청은 업스트림을 기다리지 않고 바로 실패
+                    rejected++;
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            System.out.printf("%s 스레드, Tomcat 워커 %d개, 동시 요청 %d건, 업스트림 지연 %dms%n",
+                    VIRTUAL_THREADS ? "가상" : "플랫폼", TOMCAT_THREADS, REQUESTS, UPSTREAM_DELAY.toMillis());
+            System.out.printf("전체 %dms, 성공 %d건, 거절 %d건, 업스트림 호출 %d건, 부하 중 health %dms%n",
+                    elapsed.toMillis(), ok, rejected, upstream.getRequestCount(), probeTime.toMillis());
+
+            assertThat(probe.statusCode()).isLessThan(500);
+            assertThat(probeTime).isLessThan(PROBE_LIMIT);
+            assertThat(ok).isPositive();
+        }
+    }
+
+    private static MockWebServer startUpstream() {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "";
+                if (path.equals("/python-api/analysis/cohort/list")) {
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json")
+                            .setBody("{\"Contents\": []}");
+                }
+                return new MockResponse()
+                        .setHeader("Content-Type", "text/csv")
+                        .setBody(CSV)
+                        .setHeadersDelay(UPSTREAM_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return server;
+    }
+}